@@ -0,0 +1,53 @@
+// Carga de lectura para comparar latencias (p99) entre el modo de hilos de
+// plataforma y el de hilos virtuales. Misma ejecución contra ambos arranques:
+//
+//   VIRTUAL_THREADS=false ./mvnw spring-boot:run ...   # o =true
+//   k6 run -e EMAIL=... -e PASSWORD=... loadtest/tasks-read.js
+//
+// Ráfaga: sube a RATE peticiones/s de golpe y la mantiene, por encima de lo que
+// sirven 20 conexiones, para que las peticiones se acumulen esperando al pool.
+import http from 'k6/http';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 1500);
+
+export const options = {
+    scenarios: {
+        burst: {
+            executor: 'ramping-arrival-rate',
+            startRate: 100,
+            timeUnit: '1s',
+            preAllocatedVUs: 500,
+            maxVUs: 3000,
+            stages: [
+                { target: 100, duration: '20s' },   // calentamiento
+                { target: RATE, duration: '5s' },   // ráfaga
+                { target: RATE, duration: '40s' },
+                { target: 100, duration: '5s' },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    if (res.status !== 200) {
+        fail(`login ${res.status}: ${res.body}`);
+    }
+    return { token: res.json('accessToken') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+    const res = Math.random() < 0.8
+        ? http.get(`${BASE_URL}/api/tasks?size=50&status=TODO`, Object.assign({ tags: { name: 'tasks' } }, params))
+        : http.get(`${BASE_URL}/api/projects`, Object.assign({ tags: { name: 'projects' } }, params));
+    check(res, { 'status 200': (r) => r.status === 200 });
+}
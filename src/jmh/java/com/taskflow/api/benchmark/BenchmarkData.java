@@ -0,0 +1,97 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.dto.response.TaskResponse;
+import com.taskflow.api.mapper.TaskMapper;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.Role;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.projection.TaskView;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos sintéticos con la forma de una página real: pocos usuarios y
+ * proyectos compartidos por muchas tareas.
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 15, 9, 30);
+
+    private BenchmarkData() {
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = User.builder()
+                    .name("Usuario " + i)
+                    .email("usuario" + i + "@taskflow.dev")
+                    .password("$2a$10$abcdefghijklmnopqrstuv")
+                    .role(i % 10 == 0 ? Role.ADMIN : Role.USER)
+                    .build();
+            user.setId((long) i + 1);
+            user.setCreatedAt(CREATED_AT);
+            user.setUpdatedAt(CREATED_AT);
+            users.add(user);
+        }
+        return users;
+    }
+
+    static List<Project> projects(int count) {
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Project project = Project.builder()
+                    .name("Proyecto " + i)
+                    .description("Descripción del proyecto " + i)
+                    .build();
+            project.setId((long) i + 1);
+            project.setCreatedAt(CREATED_AT);
+            project.setUpdatedAt(CREATED_AT);
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    static List<Task> tasks(int count) {
+        List<User> users = users(50);
+        List<Project> projects = projects(20);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = Task.builder()
+                    .title("Tarea " + i)
+                    .description("Descripción de la tarea " + i + " con algo de texto de relleno")
+                    .status(TaskStatus.values()[i % TaskStatus.values().length])
+                    .priority(Priority.values()[i % Priority.values().length])
+                    .dueDate(LocalDate.of(2026, 1, 1).plusDays(i % 365))
+                    .assignedUser(users.get(i % users.size()))
+                    .project(projects.get(i % projects.size()))
+                    .build();
+            task.setId((long) i + 1);
+            task.setCreatedAt(CREATED_AT);
+            task.setUpdatedAt(CREATED_AT);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static List<TaskView> taskViews(int count) {
+        return tasks(count).stream()
+                .map(task -> new TaskView(
+                        task.getId(), task.getTitle(), task.getDescription(),
+                        task.getStatus(), task.getPriority(), task.getDueDate(),
+                        task.getAssignedUser().getId(), task.getAssignedUser().getName(),
+                        task.getProject().getId(), task.getProject().getName(),
+                        task.getCreatedAt(), task.getUpdatedAt()))
+                .toList();
+    }
+
+    static List<TaskResponse> taskResponses(int count) {
+        return taskViews(count).stream().map(TaskMapper::toResponse).toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskflow.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.response.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización de {@code List<TaskResponse>} con un ObjectMapper configurado
+ * como el de Spring Boot (JavaTimeModule, fechas en ISO-8601).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class JacksonSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> tasks;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        tasks = BenchmarkData.taskResponses(size);
+    }
+
+    @Benchmark
+    public void serializeToStream() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), tasks);
+    }
+
+    @Benchmark
+    public byte[] serializeToBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,93 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Role;
+import com.taskflow.api.security.JwtKeyRing;
+import com.taskflow.api.security.JwtProperties;
+import com.taskflow.api.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emisión y verificación de tokens. Los métodos {@code legacy*} reproducen la
+ * implementación anterior (clave decodificada y parser construido en cada
+ * llamada, tres parseos por petición) para comparar antes/después.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "YmVuY2htYXJrLXNlY3JldC1rZXktd2l0aC1hdC1sZWFzdC0yNTYtYml0cw==";
+    private static final long EXPIRATION = 3_600_000;
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+    private String legacyToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties(SECRET, EXPIRATION, EXPIRATION, null, Map.of());
+        jwtService = new JwtService(new JwtKeyRing(properties, event -> { }), properties);
+        user = User.builder().email("bench@taskflow.dev").role(Role.USER).build();
+        user.setId(1L);
+        token = jwtService.generateToken(user);
+        legacyToken = legacyGenerate(user);
+    }
+
+    @Benchmark
+    public String issue() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Object verify() {
+        return jwtService.verify(token);
+    }
+
+    @Benchmark
+    public String legacyIssue() {
+        return legacyGenerate(user);
+    }
+
+    @Benchmark
+    public boolean legacyVerify() {
+        // extractUsername + isTokenValid (subject + expiración): tres parseos
+        String username = legacyClaims(legacyToken).getSubject();
+        return username.equals(legacyClaims(legacyToken).getSubject())
+                && !legacyClaims(legacyToken).getExpiration().before(new Date());
+    }
+
+    private static String legacyGenerate(User user) {
+        return Jwts.builder()
+                .subject(user.getEmail())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .signWith(legacyKey(), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(legacyKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static SecretKey legacyKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+}
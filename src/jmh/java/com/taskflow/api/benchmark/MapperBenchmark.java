@@ -0,0 +1,61 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.dto.response.ProjectResponse;
+import com.taskflow.api.dto.response.TaskResponse;
+import com.taskflow.api.dto.response.UserResponse;
+import com.taskflow.api.mapper.ProjectMapper;
+import com.taskflow.api.mapper.TaskMapper;
+import com.taskflow.api.mapper.UserMapper;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.projection.TaskView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Task> tasks;
+    private List<TaskView> taskViews;
+    private List<User> users;
+    private List<Project> projects;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.tasks(size);
+        taskViews = BenchmarkData.taskViews(size);
+        users = BenchmarkData.users(size);
+        projects = BenchmarkData.projects(size);
+    }
+
+    @Benchmark
+    public List<TaskResponse> taskToResponse() {
+        return tasks.stream().map(TaskMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public List<TaskResponse> taskViewToResponse() {
+        return taskViews.stream().map(TaskMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public List<UserResponse> userToResponse() {
+        return users.stream().map(UserMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public List<ProjectResponse> projectToResponse() {
+        return projects.stream().map(ProjectMapper::toResponse).toList();
+    }
+}
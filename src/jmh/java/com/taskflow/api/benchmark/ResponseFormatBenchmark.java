@@ -0,0 +1,104 @@
+package com.taskflow.api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.config.BinaryFormatConfig;
+import com.taskflow.api.dto.response.CursorPage;
+import com.taskflow.api.dto.response.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Codificación y decodificación de una página de {@code GET /api/tasks} en cada
+ * formato negociable. {@code JSON_GZIP} es JSON con la compresión gzip que aplica
+ * Tomcat. El tamaño del cuerpo de cada formato sale en jmh-result.json como métrica
+ * secundaria {@code bytes} ({@link PayloadSize}), junto a los tiempos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    private static final TypeReference<CursorPage<TaskResponse>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    public enum Format { JSON, JSON_GZIP, SMILE, CBOR }
+
+    @Param({"JSON", "JSON_GZIP", "SMILE", "CBOR"})
+    private Format format;
+
+    // Página por defecto y máxima del listado
+    @Param({"50", "500"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private CursorPage<TaskResponse> page;
+    private byte[] encoded;
+
+    /**
+     * Tamaño del cuerpo codificado. JMH pone a cero los contadores al empezar cada
+     * iteración, así que cada operación lo vuelve a asignar (no es un acumulado).
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case JSON, JSON_GZIP -> Jackson2ObjectMapperBuilder.json().build();
+            case SMILE -> BinaryFormatConfig.smileMapper(Jackson2ObjectMapperBuilder.json());
+            case CBOR -> BinaryFormatConfig.cborMapper(Jackson2ObjectMapperBuilder.json());
+        };
+        List<TaskResponse> tasks = BenchmarkData.taskResponses(size);
+        page = CursorPage.<TaskResponse>builder()
+                .items(tasks)
+                .size(tasks.size())
+                .hasNext(true)
+                .nextCursor("eyJpZCI6NTAwfQ")
+                .build();
+        encoded = encode(new PayloadSize());
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize payload) throws IOException {
+        byte[] body;
+        if (format != Format.JSON_GZIP) {
+            body = objectMapper.writeValueAsBytes(page);
+        } else {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+                objectMapper.writeValue(gzip, page);
+            }
+            body = bytes.toByteArray();
+        }
+        payload.bytes = body.length;
+        return body;
+    }
+
+    @Benchmark
+    public CursorPage<TaskResponse> decode(PayloadSize payload) throws IOException {
+        payload.bytes = encoded.length;
+        if (format != Format.JSON_GZIP) {
+            return objectMapper.readValue(encoded, PAGE_TYPE);
+        }
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+            return objectMapper.readValue(gzip, PAGE_TYPE);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.config.PasswordEncoderConfig;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Alta de un usuario contra H2 en memoria con un pool Hikari de 4 conexiones y 8
+ * hilos concurrentes. {@code HASH_IN_TRANSACTION} es el flujo anterior (BCrypt
+ * dentro de la transacción) y {@code HASH_BEFORE_TRANSACTION} el actual. Junto al
+ * throughput, jmh-result.json recoge como métricas secundarias ({@link ConnectionTimes})
+ * el tiempo total que las altas retienen conexión, el que esperan por una y el número
+ * de altas de cada iteración; la media por alta es el total entre {@code users}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class UserCreationBenchmark {
+
+    private static final String PASSWORD = "Benchmark123";
+    private static final int POOL_SIZE = 4;
+
+    public enum Mode { HASH_IN_TRANSACTION, HASH_BEFORE_TRANSACTION }
+
+    @Param({"HASH_IN_TRANSACTION", "HASH_BEFORE_TRANSACTION"})
+    private Mode mode;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private PasswordEncoder passwordEncoder;
+    private HikariDataSource dataSource;
+
+    /** Contadores por hilo que JMH suma entre hilos en cada iteración. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ConnectionTimes {
+
+        public double connectionHeldMs;
+        public double connectionAcquireMs;
+        public long users;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            connectionHeldMs = 0;
+            connectionAcquireMs = 0;
+            users = 0;
+        }
+
+        void record(long requestedAt, long acquiredAt, long releasedAt) {
+            connectionAcquireMs += (acquiredAt - requestedAt) / 1e6;
+            connectionHeldMs += (releasedAt - acquiredAt) / 1e6;
+            users++;
+        }
+    }
+
+    @Setup
+    public void setUp() throws SQLException {
+        passwordEncoder = new PasswordEncoderConfig().passwordEncoder();
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:users-" + mode + ";DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        dataSource = new HikariDataSource(config);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "email VARCHAR(255) NOT NULL UNIQUE, password VARCHAR(255) NOT NULL)");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public long createUser(ConnectionTimes times) throws SQLException {
+        String email = "user-" + sequence.incrementAndGet() + "@taskflow.test";
+        String hash = mode == Mode.HASH_BEFORE_TRANSACTION ? passwordEncoder.encode(PASSWORD) : null;
+        long requestedAt = System.nanoTime();
+        long acquiredAt;
+        long id;
+        try (Connection connection = dataSource.getConnection()) {
+            acquiredAt = System.nanoTime();
+            connection.setAutoCommit(false);
+            try (PreparedStatement exists = connection.prepareStatement("SELECT COUNT(*) FROM users WHERE email = ?")) {
+                exists.setString(1, email);
+                try (ResultSet rs = exists.executeQuery()) {
+                    rs.next();
+                }
+            }
+            if (hash == null) {
+                hash = passwordEncoder.encode(PASSWORD);
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO users (email, password) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+                insert.setString(1, email);
+                insert.setString(2, hash);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    id = keys.getLong(1);
+                }
+            }
+            connection.commit();
+        }
+        times.record(requestedAt, acquiredAt, System.nanoTime());
+        return id;
+    }
+}
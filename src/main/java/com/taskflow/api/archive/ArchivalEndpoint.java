@@ -0,0 +1,32 @@
+package com.taskflow.api.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Estado del archivado de filas borradas y pausa en caliente: {@code /actuator/archival}.
+ * La pausa solo afecta a este nodo y no sobrevive a un reinicio ({@code archival.paused}).
+ */
+@Component
+@Endpoint(id = "archival")
+@RequiredArgsConstructor
+public class ArchivalEndpoint {
+
+    private final ArchivalJob job;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return job.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(boolean paused) {
+        job.pause(paused);
+        return job.status();
+    }
+}
@@ -0,0 +1,263 @@
+package com.taskflow.api.archive;
+
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mueve a las tablas {@code *_archive} las tareas, proyectos y usuarios borrados
+ * lógicamente hace más de {@code archival.retention}, para que las tablas e índices
+ * que consultan las peticiones no arrastren filas que nunca devuelven.
+ *
+ * <p>Recorre las candidatas por id (keyset) en lotes de {@code archival.chunk-size}.
+ * Cada lote se bloquea con {@code FOR UPDATE SKIP LOCKED}, se copia y se borra en su
+ * propia transacción corta, con una pausa de {@code archival.chunk-delay} entre lotes.
+ * Varios nodos pueden ejecutarlo a la vez sin pisarse. Las tareas van primero: un
+ * proyecto o usuario solo se archiva cuando ya no lo referencia ninguna tarea (ni
+ * refresh token).
+ *
+ * <p>Se pausa y reanuda en caliente con {@code /actuator/archival}; una pausa detiene
+ * la pasada en curso al terminar el lote actual.
+ */
+@Component
+@Slf4j
+public class ArchivalJob {
+
+    private static final String NOT_REFERENCED_BY_TASKS =
+            " AND NOT EXISTS (SELECT 1 FROM tasks t WHERE t.%1$s = r.id AND t.deleted_at IS NULL)"
+                    + " AND NOT EXISTS (SELECT 1 FROM tasks t WHERE t.%1$s = r.id AND t.deleted_at IS NOT NULL)";
+
+    private static final List<ArchivedTable> TABLES = List.of(
+            new ArchivedTable("tasks", Task.class,
+                    "id, created_at, updated_at, deleted_at, version, title, description, status, priority, "
+                            + "due_date, user_id, project_id",
+                    ""),
+            new ArchivedTable("projects", Project.class,
+                    "id, created_at, updated_at, deleted_at, version, name, description",
+                    NOT_REFERENCED_BY_TASKS.formatted("project_id")),
+            new ArchivedTable("users", User.class,
+                    "id, created_at, updated_at, deleted_at, version, name, email, active, role",
+                    NOT_REFERENCED_BY_TASKS.formatted("user_id")
+                            + " AND NOT EXISTS (SELECT 1 FROM refresh_tokens rt WHERE rt.user_id = r.id)"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final Cache entityCache;
+    private final Duration retention;
+    private final int chunkSize;
+    private final Duration chunkDelay;
+
+    private final Map<String, TableMeters> meters = new LinkedHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean paused;
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile LocalDateTime lastRunFinishedAt;
+    private volatile Map<String, Long> lastRunArchived = Map.of();
+
+    public ArchivalJob(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory,
+            MeterRegistry meterRegistry,
+            @Value("${archival.retention:30d}") Duration retention,
+            @Value("${archival.chunk-size:500}") int chunkSize,
+            @Value("${archival.chunk-delay:100ms}") Duration chunkDelay,
+            @Value("${archival.paused:false}") boolean paused) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.entityCache = entityManagerFactory.getCache();
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.chunkDelay = chunkDelay;
+        this.paused = paused;
+        for (ArchivedTable table : TABLES) {
+            meters.put(table.name(), new TableMeters(meterRegistry, table.name()));
+        }
+        Gauge.builder("archival.paused", this, job -> job.paused ? 1 : 0)
+                .description("1 si el archivado está pausado")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${archival.interval:PT1H}", initialDelayString = "${archival.initial-delay:PT5M}")
+    public void run() {
+        if (paused || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            lastRunStartedAt = LocalDateTime.now();
+            LocalDateTime cutoff = lastRunStartedAt.minus(retention);
+            Map<String, Long> archived = new LinkedHashMap<>();
+            for (ArchivedTable table : TABLES) {
+                if (paused) {
+                    break;
+                }
+                meters.get(table.name()).pending.set(countPending(table, cutoff));
+                archived.put(table.name(), archive(table, cutoff));
+            }
+            lastRunArchived = archived;
+            lastRunFinishedAt = LocalDateTime.now();
+            if (archived.values().stream().anyMatch(rows -> rows > 0)) {
+                log.info("Archivado de filas borradas antes de {}: {}", cutoff, archived);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Fallo en el archivado de filas borradas, se reintenta en la siguiente pasada: {}",
+                    e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long archive(ArchivedTable table, LocalDateTime cutoff) {
+        TableMeters tableMeters = meters.get(table.name());
+        long after = 0;
+        long archived = 0;
+        while (!paused) {
+            LocalDateTime now = LocalDateTime.now();
+            long from = after;
+            List<Long> ids = tableMeters.chunkTime.record(() -> transaction.execute(status ->
+                    archiveChunk(table, cutoff, from, now)));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            // La caché de segundo nivel no ve los DELETE por JDBC
+            ids.forEach(id -> entityCache.evict(table.entity(), id));
+            archived += ids.size();
+            tableMeters.rows.increment(ids.size());
+            tableMeters.pending.updateAndGet(pending -> Math.max(0, pending - ids.size()));
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            after = ids.get(ids.size() - 1);
+            if (!throttle()) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    private List<Long> archiveChunk(ArchivedTable table, LocalDateTime cutoff, long after, LocalDateTime now) {
+        List<Long> ids = jdbcTemplate.queryForList(table.lockChunkSql(),
+                Map.of("cutoff", cutoff, "after", after, "limit", chunkSize), Long.class);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        Map<String, Object> params = Map.of("ids", ids, "now", now);
+        jdbcTemplate.update(table.copySql(), params);
+        jdbcTemplate.update(table.deleteSql(), params);
+        return ids;
+    }
+
+    private long countPending(ArchivedTable table, LocalDateTime cutoff) {
+        Long pending = jdbcTemplate.queryForObject(table.countSql(), Map.of("cutoff", cutoff), Long.class);
+        return pending != null ? pending : 0;
+    }
+
+    // Espera entre lotes; false si el hilo se interrumpe (parada de la aplicación)
+    private boolean throttle() {
+        if (chunkDelay.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkDelay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void pause(boolean paused) {
+        this.paused = paused;
+        log.info("Archivado de filas borradas {}", paused ? "pausado" : "reanudado");
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Long> pending = new LinkedHashMap<>();
+        meters.forEach((table, tableMeters) -> pending.put(table, tableMeters.pending.get()));
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("paused", paused);
+        status.put("running", running.get());
+        status.put("retention", retention.toString());
+        status.put("lastRunStartedAt", lastRunStartedAt);
+        status.put("lastRunFinishedAt", lastRunFinishedAt);
+        status.put("lastRunArchived", lastRunArchived);
+        status.put("pending", pending);
+        return status;
+    }
+
+    /**
+     * Tabla archivable: columnas copiadas a {@code <name>_archive} y condición extra
+     * sobre la fila candidata (alias {@code r}).
+     */
+    private record ArchivedTable(String name, Class<?> entity, String columns, String eligible) {
+
+        String lockChunkSql() {
+            return """
+                    SELECT r.id FROM %s r
+                    WHERE r.deleted_at IS NOT NULL AND r.deleted_at < :cutoff AND r.id > :after%s
+                    ORDER BY r.id
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED
+                    """.formatted(name, eligible);
+        }
+
+        String countSql() {
+            return "SELECT COUNT(*) FROM %s r WHERE r.deleted_at IS NOT NULL AND r.deleted_at < :cutoff%s"
+                    .formatted(name, eligible);
+        }
+
+        String copySql() {
+            return "INSERT INTO %1$s_archive (%2$s, archived_at) SELECT %2$s, :now FROM %1$s WHERE id IN (:ids)"
+                    .formatted(name, columns);
+        }
+
+        String deleteSql() {
+            return "DELETE FROM %s WHERE id IN (:ids)".formatted(name);
+        }
+    }
+
+    private static final class TableMeters {
+
+        private final Counter rows;
+        private final Timer chunkTime;
+        private final AtomicLong pending = new AtomicLong();
+
+        TableMeters(MeterRegistry meterRegistry, String table) {
+            Tags tags = Tags.of("table", table);
+            this.rows = Counter.builder("archival.rows")
+                    .description("Filas borradas movidas a la tabla de archivo")
+                    .tags(tags)
+                    .register(meterRegistry);
+            this.chunkTime = Timer.builder("archival.chunk")
+                    .description("Duración de la transacción de un lote de archivado")
+                    .tags(tags)
+                    .register(meterRegistry);
+            Gauge.builder("archival.pending", pending, AtomicLong::get)
+                    .description("Filas que cumplían la retención al empezar la pasada y siguen sin archivar")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+    }
+}
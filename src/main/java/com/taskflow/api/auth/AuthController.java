@@ -1,13 +1,21 @@
 package com.taskflow.api.auth;
 
 import com.taskflow.api.dto.request.LoginRequest;
-import com.taskflow.api.security.JwtService;
+import com.taskflow.api.dto.request.RefreshTokenRequest;
+import com.taskflow.api.dto.response.TokenResponse;
+import com.taskflow.api.service.AuthTokenService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -15,20 +23,49 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final AuthenticationManager authManager;
-    private final JwtService jwtService;
+    private final AuthTokenService authTokenService;
+    private final LoginThrottle loginThrottle;
 
+    /**
+     * Los intentos por encima del límite de la IP o del email se rechazan con 429 antes
+     * de consultar la base de datos o calcular BCrypt (ver {@link LoginThrottle}).
+     */
     @PostMapping("/login")
-    public String login(@RequestBody LoginRequest request) {
+    public TokenResponse login(@RequestBody LoginRequest request, HttpServletRequest servletRequest) {
+
+        loginThrottle.checkAttempt(request.getEmail(), servletRequest.getRemoteAddr());
 
-        var authentication = authManager.authenticate(
+        var authentication = loginThrottle.verify(() -> authManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
                         request.getPassword()
                 )
-        );
+        ));
+        loginThrottle.onSuccess(request.getEmail());
+
+        return authTokenService.issue(authentication.getName());
+    }
+
+    @PostMapping("/refresh")
+    public TokenResponse refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return authTokenService.refresh(request.getRefreshToken());
+    }
 
-        var userDetails = (org.springframework.security.core.userdetails.UserDetails) authentication.getPrincipal();
-        return jwtService.generateToken(userDetails);
+    /**
+     * Revoca la sesión del refresh token y, si llega en la cabecera, el access token.
+     */
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(
+            @Valid @RequestBody RefreshTokenRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization
+    ) {
+        String accessToken = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? authorization.substring(BEARER_PREFIX.length())
+                : null;
+        authTokenService.logout(request.getRefreshToken(), accessToken);
     }
 }
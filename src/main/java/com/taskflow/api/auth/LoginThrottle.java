@@ -0,0 +1,160 @@
+package com.taskflow.api.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.api.exception.TooManyRequestsException;
+import com.taskflow.api.mapper.UserMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Protege {@code /auth/login} de ataques de credenciales antes de llegar a BCrypt.
+ *
+ * <ul>
+ *   <li>Un token bucket por IP y otro por email: al agotarse se responde 429 sin
+ *       consultar la base de datos ni el {@code PasswordEncoder}. Un login correcto
+ *       rellena el bucket de su email, así que los errores previos del propio
+ *       usuario no le bloquean.</li>
+ *   <li>Un máximo global de verificaciones en curso: cada una ocupa una CPU durante
+ *       decenas de milisegundos y sin límite una ráfaga deja sin CPU al resto de
+ *       peticiones. Si no hay hueco en {@code max-queue-wait} también se responde 429.</li>
+ * </ul>
+ *
+ * Los buckets se descartan tras estar inactivos el tiempo que tardan en rellenarse,
+ * cuando ya no limitan nada; {@code max-keys} acota la memoria si un ataque usa
+ * muchas claves distintas.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final String TOO_MANY_ATTEMPTS = "Demasiados intentos de inicio de sesión, inténtelo más tarde";
+    private static final String BUSY = "Servicio de autenticación saturado, inténtelo más tarde";
+
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final int emailCapacity;
+    private final Duration emailRefill;
+    private final int ipCapacity;
+    private final Duration ipRefill;
+
+    private final Semaphore verifications;
+    private final int maxConcurrent;
+    private final long maxQueueWaitNanos;
+
+    private final Counter rejectedByEmail;
+    private final Counter rejectedByIp;
+    private final Counter rejectedBusy;
+    private final Timer queueTimer;
+
+    public LoginThrottle(
+            @Value("${auth.login.throttle.email.capacity:5}") int emailCapacity,
+            @Value("${auth.login.throttle.email.refill:1m}") Duration emailRefill,
+            @Value("${auth.login.throttle.ip.capacity:50}") int ipCapacity,
+            @Value("${auth.login.throttle.ip.refill:1s}") Duration ipRefill,
+            @Value("${auth.login.throttle.max-keys:100000}") long maxKeys,
+            @Value("${auth.login.max-concurrent:0}") int maxConcurrent,
+            @Value("${auth.login.max-queue-wait:500ms}") Duration maxQueueWait,
+            MeterRegistry meterRegistry) {
+        this.emailCapacity = emailCapacity;
+        this.emailRefill = emailRefill;
+        this.ipCapacity = ipCapacity;
+        this.ipRefill = ipRefill;
+        this.emailBuckets = buckets(maxKeys, TokenBucket.idleUntilFull(emailCapacity, emailRefill));
+        this.ipBuckets = buckets(maxKeys, TokenBucket.idleUntilFull(ipCapacity, ipRefill));
+        this.maxConcurrent = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        this.verifications = new Semaphore(this.maxConcurrent);
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+
+        this.rejectedByEmail = rejected(meterRegistry, "email");
+        this.rejectedByIp = rejected(meterRegistry, "ip");
+        this.rejectedBusy = rejected(meterRegistry, "busy");
+        this.queueTimer = Timer.builder("auth.login.queue")
+                .description("Espera de un hueco para verificar credenciales")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.in-flight", verifications, permits -> this.maxConcurrent - permits.availablePermits())
+                .description("Verificaciones de credenciales en curso")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, emailBuckets, "auth.login.email");
+        CaffeineCacheMetrics.monitor(meterRegistry, ipBuckets, "auth.login.ip");
+    }
+
+    /**
+     * Consume un intento de la IP y del email, o lanza {@link TooManyRequestsException}
+     * con el tiempo hasta el siguiente intento permitido.
+     */
+    public void checkAttempt(String email, String ip) {
+        long now = System.nanoTime();
+        long wait = ipBuckets.get(ip, key -> new TokenBucket(ipCapacity, ipRefill, now)).tryConsume(now);
+        if (wait > 0) {
+            rejectedByIp.increment();
+            throw new TooManyRequestsException(TOO_MANY_ATTEMPTS, retryAfterSeconds(wait));
+        }
+        wait = emailBuckets.get(key(email), key -> new TokenBucket(emailCapacity, emailRefill, now)).tryConsume(now);
+        if (wait > 0) {
+            rejectedByEmail.increment();
+            throw new TooManyRequestsException(TOO_MANY_ATTEMPTS, retryAfterSeconds(wait));
+        }
+    }
+
+    /**
+     * Ejecuta la verificación de credenciales dentro del máximo de verificaciones
+     * simultáneas, esperando como mucho {@code max-queue-wait} a que haya hueco.
+     */
+    public <T> T verify(Supplier<T> verification) {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = verifications.tryAcquire(maxQueueWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        queueTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejectedBusy.increment();
+            throw new TooManyRequestsException(BUSY, 1);
+        }
+        try {
+            return verification.get();
+        } finally {
+            verifications.release();
+        }
+    }
+
+    public void onSuccess(String email) {
+        emailBuckets.invalidate(key(email));
+    }
+
+    private static String key(String email) {
+        return email == null ? "" : UserMapper.normalizeEmail(email);
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private static Cache<String, TokenBucket> buckets(long maxKeys, Duration idle) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idle)
+                .recordStats()
+                .build();
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.login.rejected")
+                .description("Intentos de login rechazados sin verificar credenciales")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
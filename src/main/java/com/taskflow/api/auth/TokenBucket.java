@@ -0,0 +1,45 @@
+package com.taskflow.api.auth;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket de {@code capacity} intentos que recupera uno cada {@code refill},
+ * implementado como GCRA: todo el estado es el instante teórico en que el bucket
+ * vuelve a estar lleno, un único {@code long} que se actualiza con CAS, sin locks.
+ */
+final class TokenBucket {
+
+    private final long interval;
+    private final long tolerance;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, Duration refill, long now) {
+        this.interval = refill.toNanos();
+        this.tolerance = interval * (capacity - 1);
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Consume un token si hay alguno disponible. Devuelve 0 si se ha concedido o los
+     * nanosegundos que faltan para el siguiente.
+     */
+    long tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long base = current - now > 0 ? current : now;
+            long wait = base - now - tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, base + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    /** Tiempo sin uso tras el cual el bucket está lleno y puede descartarse. */
+    static Duration idleUntilFull(int capacity, Duration refill) {
+        return refill.multipliedBy(capacity);
+    }
+}
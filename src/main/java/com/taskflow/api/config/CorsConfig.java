@@ -2,6 +2,7 @@ package com.taskflow.api.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -23,8 +24,10 @@ public class CorsConfig {
             "https://*.netlify.app"
         ));
 
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // Sin exponerlo, el navegador oculta el ETag y el cliente no puede enviar If-None-Match
+        configuration.setExposedHeaders(Arrays.asList(HttpHeaders.ETAG));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
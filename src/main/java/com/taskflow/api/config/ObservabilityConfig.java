@@ -0,0 +1,54 @@
+package com.taskflow.api.config;
+
+import com.taskflow.api.observability.RequestMetricsFilter;
+import com.taskflow.api.observability.SqlMetricsDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Métricas SQL por petición y registro de peticiones lentas. Los timers de
+ * servicios ({@code @Timed} con {@code management.observations.annotations.enabled})
+ * y de repositorios ({@code spring.data.repository.invocations}) los registra
+ * Spring Boot; aquí solo se añade lo que no trae.
+ */
+@Configuration
+public class ObservabilityConfig {
+
+    // Justo después del filtro de http.server.requests (HIGHEST_PRECEDENCE + 1)
+    private static final int REQUEST_METRICS_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 2;
+
+    /**
+     * Sin orden: se aplica después de los post-procesadores ordenados, así que envuelve
+     * el DataSource ya definitivo (también el limitador del modo de hilos virtuales).
+     */
+    @Bean
+    static BeanPostProcessor sqlMetricsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof SqlMetricsDataSource) {
+                    return bean;
+                }
+                return new SqlMetricsDataSource(dataSource);
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${observability.slow-request.threshold:1s}") Duration slowThreshold) {
+        FilterRegistrationBean<RequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestMetricsFilter(meterRegistry, slowThreshold));
+        registration.setOrder(REQUEST_METRICS_FILTER_ORDER);
+        return registration;
+    }
+}
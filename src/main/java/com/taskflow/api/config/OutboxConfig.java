@@ -0,0 +1,41 @@
+package com.taskflow.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.outbox.FileOutboxSink;
+import com.taskflow.api.outbox.InMemoryOutboxSink;
+import com.taskflow.api.outbox.LogOutboxSink;
+import com.taskflow.api.outbox.OutboxSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Destino de los eventos del outbox según outbox.sink: log (por defecto), file
+ * (NDJSON) o memory (tests). Otro destino solo necesita un bean {@link OutboxSink}.
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.sink", havingValue = "log", matchIfMissing = true)
+    public OutboxSink logOutboxSink(ObjectMapper objectMapper) {
+        return new LogOutboxSink(objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.sink", havingValue = "file")
+    public FileOutboxSink fileOutboxSink(ObjectMapper objectMapper,
+                                         @Value("${outbox.file.path:outbox.ndjson}") Path path) throws IOException {
+        return new FileOutboxSink(objectMapper, path);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "outbox.sink", havingValue = "memory")
+    public InMemoryOutboxSink inMemoryOutboxSink() {
+        return new InMemoryOutboxSink();
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskflow.api.config;
+
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.search.LuceneTaskSearchIndex;
+import com.taskflow.api.search.PostgresTaskSearchIndex;
+import com.taskflow.api.search.TaskSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Motor de búsqueda de tareas según tasks.search.engine: tsvector en PostgreSQL
+ * (prod y perfil test de CI) o un índice Lucene en memoria (H2).
+ */
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tasks.search.engine", havingValue = "postgres")
+    public TaskSearchIndex postgresTaskSearchIndex(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${tasks.search.rank-window:1000}") int rankWindow) {
+        return new PostgresTaskSearchIndex(jdbcTemplate, rankWindow);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tasks.search.engine", havingValue = "lucene", matchIfMissing = true)
+    public LuceneTaskSearchIndex luceneTaskSearchIndex(TaskRepository taskRepository,
+                                                       PlatformTransactionManager transactionManager) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return new LuceneTaskSearchIndex(taskRepository, readOnly);
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskflow.api.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Caché de segundo nivel de Hibernate para {@code User} y {@code Project}: regiones
+ * JCache sobre Caffeine con tamaño máximo y TTL, y métricas en Micrometer.
+ *
+ * <p>La búsqueda por id en esta caché no aplica el {@code @Where} de borrado lógico:
+ * los repositorios exponen {@code findActiveById}, que descarta las entidades borradas.
+ * Cada nodo tiene su propia caché: un cambio hecho en otro nodo puede tardar un TTL en
+ * verse aquí. Las escrituras que validan una referencia usan
+ * {@code findActiveByIdUncached}, y las lecturas asumen ese retraso.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String USERS_REGION = "users";
+    public static final String PROJECTS_REGION = "projects";
+
+    /**
+     * Un CacheManager propio por contexto (URI única): el del proveedor es compartido
+     * por classloader y dos contextos en la misma JVM chocarían al crear las regiones.
+     */
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager(
+            @Value("${entity-cache.users.max-size:10000}") long usersMaxSize,
+            @Value("${entity-cache.users.ttl:1m}") Duration usersTtl,
+            @Value("${entity-cache.projects.max-size:10000}") long projectsMaxSize,
+            @Value("${entity-cache.projects.ttl:1m}") Duration projectsTtl,
+            MeterRegistry meterRegistry
+    ) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("taskflow-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        monitor(meterRegistry, cacheManager.createCache(USERS_REGION, region(usersMaxSize, usersTtl)));
+        monitor(meterRegistry, cacheManager.createCache(PROJECTS_REGION, region(projectsMaxSize, projectsTtl)));
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        return new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(maxSize))
+                .setExpireAfterWrite(OptionalLong.of(ttl.toNanos()))
+                .setNativeStatisticsEnabled(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void monitor(MeterRegistry meterRegistry, Cache<Object, Object> region) {
+        // Las estadísticas nativas de Caffeine dan aciertos, fallos y desalojos por región
+        CaffeineCacheMetrics.monitor(meterRegistry,
+                region.unwrap(com.github.benmanes.caffeine.cache.Cache.class), "hibernate." + region.getName());
+    }
+}
@@ -1,6 +1,7 @@
 package com.taskflow.api.config;
 
 import com.taskflow.api.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,6 +35,9 @@ public class SecurityConfig {
 
                 // 🔐 Autorización
                 .authorizeHttpRequests(auth -> auth
+                        // Fin de una respuesta asíncrona (stream SSE): la petición ya se autorizó al entrar
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Públicos
                         .requestMatchers(
                                 "/auth/**",
@@ -43,6 +47,10 @@ public class SecurityConfig {
                                 "/h2-console/**"
                         ).permitAll()
 
+                        // Rotación de claves JWT y control del archivado solo para administradores
+                        .requestMatchers("/actuator/jwtkeys", "/actuator/jwtkeys/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/archival", "/actuator/archival/**").hasRole("ADMIN")
+
                         // Todo lo demás requiere JWT
                         .anyRequest().authenticated()
                 )
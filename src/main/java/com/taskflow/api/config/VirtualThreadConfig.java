@@ -0,0 +1,84 @@
+package com.taskflow.api.config;
+
+import com.taskflow.api.concurrency.ConcurrencyLimitingDataSource;
+import com.taskflow.api.concurrency.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Modo de hilos virtuales, activo con {@code spring.threads.virtual.enabled=true}.
+ * Spring Boot ya ejecuta en hilos virtuales las peticiones de Tomcat y el
+ * {@code applicationTaskExecutor} (tareas {@code @Async}); aquí se añade lo que
+ * ese modo necesita alrededor: el límite de concurrencia sobre el pool JDBC y la
+ * métrica de hilos portadores bloqueados.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Tamaño que Hikari aplica al arrancar el pool si no se configura (HikariConfig.validate)
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    /**
+     * Envuelve el pool Hikari en un {@link ConcurrencyLimitingDataSource} con tantos
+     * permisos como conexiones y el mismo timeout de espera que el pool.
+     */
+    @Bean
+    static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConcurrencyLimitingPostProcessor(meterRegistry);
+    }
+
+    // Ordenado: se aplica antes que el de ObservabilityConfig, que envuelve el resultado
+    private static final class ConcurrencyLimitingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        ConcurrencyLimitingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof HikariDataSource hikari)) {
+                return bean;
+            }
+            ConcurrencyLimitingDataSource limited = new ConcurrencyLimitingDataSource(hikari,
+                    poolSize(hikari), Duration.ofMillis(hikari.getConnectionTimeout()));
+            meterRegistry.ifAvailable(limited::bindTo);
+            return limited;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    /**
+     * Antes de arrancar el pool, un tamaño no configurado vale -1: se resuelve igual que
+     * lo hará Hikari (minimum-idle si está definido, si no el valor por defecto).
+     */
+    private static int poolSize(HikariDataSource hikari) {
+        if (hikari.getMaximumPoolSize() > 0) {
+            return hikari.getMaximumPoolSize();
+        }
+        return hikari.getMinimumIdle() > 0 ? hikari.getMinimumIdle() : HIKARI_DEFAULT_POOL_SIZE;
+    }
+
+    @Bean
+    VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+}
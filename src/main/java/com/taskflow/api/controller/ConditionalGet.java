@@ -0,0 +1,49 @@
+package com.taskflow.api.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * GET condicional con ETag. La versión se obtiene antes que el cuerpo: si
+ * coincide con {@code If-None-Match} se responde 304 sin consultar, mapear ni
+ * serializar la representación.
+ *
+ * <p>Si la entidad cambia entre la versión y el cuerpo, el cliente guarda un cuerpo
+ * más nuevo con un ETag viejo; la siguiente petición no coincide y se reenvía entero.
+ *
+ * <p>Una entidad lleva ETag fuerte porque es el que se envía en {@code If-Match}. Las
+ * listas nunca se usan en {@code If-Match} y llevan ETag débil: Tomcat no comprime con
+ * gzip una respuesta con ETag fuerte, y las listas son las respuestas grandes.
+ */
+final class ConditionalGet {
+
+    // El cliente puede guardar la respuesta pero debe revalidarla siempre. Sin una
+    // cabecera propia, Spring Security añade no-store y no habría nada que revalidar.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> respond(ServletWebRequest request, String version, Supplier<T> body) {
+        return respondWithETag(request, '"' + version + '"', body);
+    }
+
+    static <T> ResponseEntity<T> respondList(ServletWebRequest request, String version, Supplier<T> body) {
+        return respondWithETag(request, "W/\"" + version + '"', body);
+    }
+
+    private static <T> ResponseEntity<T> respondWithETag(ServletWebRequest request, String etag, Supplier<T> body) {
+        // checkNotModified ya deja la cabecera ETag en la respuesta en ambos casos.
+        // El mismo ETag vale para JSON, Smile y CBOR: la caché debe distinguir por Accept
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).body(body.get());
+    }
+}
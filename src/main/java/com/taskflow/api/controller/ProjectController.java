@@ -5,7 +5,9 @@ import com.taskflow.api.dto.response.ProjectResponse;
 import com.taskflow.api.service.ProjectService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -26,12 +28,13 @@ public class ProjectController {
     }
 
     @GetMapping
-    public List<ProjectResponse> getAllProjects() {
-        return projectService.getAllProjects();
+    public ResponseEntity<List<ProjectResponse>> getAllProjects(ServletWebRequest request) {
+        return ConditionalGet.respondList(request, projectService.getProjectsVersion(), projectService::getAllProjects);
     }
 
     @GetMapping("/{id}")
-    public ProjectResponse getProjectById(@PathVariable Long id) {
-        return projectService.getProjectById(id);
+    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id, ServletWebRequest request) {
+        return ConditionalGet.respond(request, projectService.getProjectVersion(id),
+                () -> projectService.getProjectById(id));
     }
 }
@@ -0,0 +1,23 @@
+package com.taskflow.api.controller;
+
+import com.taskflow.api.dto.response.TaskStatsResponse;
+import com.taskflow.api.service.TaskStatsService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    private final TaskStatsService taskStatsService;
+
+    public StatsController(TaskStatsService taskStatsService) {
+        this.taskStatsService = taskStatsService;
+    }
+
+    @GetMapping
+    public TaskStatsResponse getStats() {
+        return taskStatsService.getStats();
+    }
+}
@@ -1,12 +1,34 @@
 package com.taskflow.api.controller;
 
 import com.taskflow.api.dto.request.CreateTaskRequest;
+import com.taskflow.api.dto.request.TaskFilter;
+import com.taskflow.api.dto.request.TaskSort;
+import com.taskflow.api.dto.request.UpdateTaskRequest;
+import com.taskflow.api.dto.response.BatchResponse;
+import com.taskflow.api.dto.response.CursorPage;
 import com.taskflow.api.dto.response.TaskResponse;
+import com.taskflow.api.exception.PreconditionFailedException;
+import com.taskflow.api.export.ExportFormat;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.service.TaskExportService;
+import com.taskflow.api.service.TaskSearchService;
 import com.taskflow.api.service.TaskService;
+import com.taskflow.api.service.TaskStreamService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -14,9 +36,16 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskSearchService taskSearchService;
+    private final TaskStreamService taskStreamService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskExportService taskExportService,
+                          TaskSearchService taskSearchService, TaskStreamService taskStreamService) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskSearchService = taskSearchService;
+        this.taskStreamService = taskStreamService;
     }
 
     @PostMapping
@@ -25,13 +54,144 @@ public class TaskController {
         return taskService.createTask(request);
     }
 
+    /**
+     * Alta masiva: 201 si se crean todas las tareas, 200 si alguna se rechaza
+     * (el detalle por elemento va en {@code results}).
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> createTasks(@RequestBody List<CreateTaskRequest> requests) {
+        BatchResponse response = taskService.createTasks(requests);
+        return ResponseEntity.status(response.getRejected() == 0 ? HttpStatus.CREATED : HttpStatus.OK)
+                .body(response);
+    }
+
     @GetMapping
-    public List<TaskResponse> getAllTasks() {
-        return taskService.getAllTasks();
+    public ResponseEntity<CursorPage<TaskResponse>> getAllTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            ServletWebRequest request) {
+
+        TaskFilter filter = filter(status, priority, userId, projectId, dueFrom, dueTo);
+        TaskSort taskSort = TaskSort.fromParam(sort);
+        return ConditionalGet.respondList(request, taskService.getTasksVersion(filter, taskSort, cursor, size),
+                () -> taskService.getAllTasks(filter, taskSort, cursor, size));
+    }
+
+    /**
+     * Exportación completa en streaming ({@code format=ndjson|csv}) con los mismos filtros
+     * que el listado. Se escribe directamente sobre la respuesta, fila a fila, sin
+     * construir la lista ni el documento en memoria.
+     */
+    @GetMapping("/export")
+    public void exportTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("tasks." + exportFormat.getParam())
+                .build()
+                .toString());
+
+        TaskFilter filter = filter(status, priority, userId, projectId, dueFrom, dueTo);
+        taskExportService.exportTasks(filter, exportFormat, response.getOutputStream());
+    }
+
+    /**
+     * Búsqueda por palabras en título y descripción (todas obligatorias, por prefijo),
+     * ordenada por relevancia y paginada por desplazamiento.
+     */
+    @GetMapping("/search")
+    public List<TaskResponse> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return taskSearchService.searchTasks(q, status, projectId, page, size);
+    }
+
+    /**
+     * Cambios de tareas en tiempo real (Server-Sent Events): eventos {@code created},
+     * {@code updated} y {@code deleted}, filtrables por proyecto y usuario asignado. Al
+     * reconectar, {@code Last-Event-ID} reanuda desde el último evento recibido.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return taskStreamService.subscribe(projectId, userId, lastEventId);
     }
 
     @GetMapping("/{id}")
-    public TaskResponse getTaskById(@PathVariable Long id) {
-        return taskService.getTaskById(id);
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, ServletWebRequest request) {
+        return ConditionalGet.respond(request, taskService.getTaskVersion(id), () -> taskService.getTaskById(id));
+    }
+
+    /**
+     * Actualización parcial: solo se modifican los campos presentes. Con {@code If-Match}
+     * (el ETag de un GET anterior) se aplica únicamente si la tarea no ha cambiado desde
+     * entonces: 412 si ya estaba en otra versión, 409 si otra escritura se cruza durante
+     * la actualización. Se compara la versión de la tarea, no la de su usuario o proyecto.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskResponse> updateTask(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateTaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        taskService.updateTask(id, request, expectedVersion(ifMatch));
+        // Versión antes que cuerpo, como en el GET condicional: el ETag nunca es más
+        // nuevo que el cuerpo, así que un If-Match posterior no puede pisar cambios no vistos
+        String version = taskService.getTaskVersion(id);
+        return ResponseEntity.ok().eTag(version).body(taskService.getTaskById(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
+        taskService.deleteTask(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Un único ETag fuerte; "*" solo exige que la tarea exista
+    private static String expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String etag = ifMatch.trim();
+        // Una lista ("a", "b") también empieza y acaba en comillas
+        if (etag.length() < 2 || !etag.startsWith("\"") || !etag.endsWith("\"")
+                || etag.indexOf('"', 1) != etag.length() - 1) {
+            throw new PreconditionFailedException("If-Match debe contener un único ETag fuerte");
+        }
+        return etag.substring(1, etag.length() - 1);
+    }
+
+    private static TaskFilter filter(TaskStatus status, Priority priority, Long userId, Long projectId,
+                                     LocalDate dueFrom, LocalDate dueTo) {
+        return TaskFilter.builder()
+                .status(status)
+                .priority(priority)
+                .userId(userId)
+                .projectId(projectId)
+                .dueFrom(dueFrom)
+                .dueTo(dueTo)
+                .build();
     }
 }
@@ -1,6 +1,7 @@
 package com.taskflow.api.controller;
 
 import com.taskflow.api.dto.request.CreateUserRequest;
+import com.taskflow.api.dto.response.BatchResponse;
 import com.taskflow.api.dto.response.UserResponse;
 import com.taskflow.api.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +17,9 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/users")
@@ -38,26 +42,46 @@ public class UserController {
                 .body(userService.createUser(request));
     }
 
+    /**
+     * Alta masiva: 201 si se crean todos los usuarios, 200 si alguno se rechaza
+     * (el detalle por elemento va en {@code results}).
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Importar usuarios", description = "Crea varios usuarios; las contraseñas se cifran en paralelo")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Todos los usuarios creados"),
+        @ApiResponse(responseCode = "200", description = "Algún usuario rechazado (email repetido o ya registrado)"),
+        @ApiResponse(responseCode = "400", description = "Datos inválidos o lote vacío o demasiado grande"),
+        @ApiResponse(responseCode = "429", description = "Cola de cifrado de contraseñas llena")
+    })
+    public ResponseEntity<BatchResponse> createUsers(@RequestBody List<CreateUserRequest> requests) {
+        BatchResponse response = userService.createUsers(requests);
+        return ResponseEntity.status(response.getRejected() == 0 ? HttpStatus.CREATED : HttpStatus.OK)
+                .body(response);
+    }
+
     @GetMapping
     @Operation(summary = "Listar usuarios", description = "Obtiene una lista paginada de usuarios")
     public ResponseEntity<Page<UserResponse>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "id") String sort) {
+            @RequestParam(defaultValue = "id") String sort,
+            ServletWebRequest request) {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sort));
-        Page<UserResponse> users = userService.getAllUsers(pageable);
-        return ResponseEntity.ok(users);
+        return ConditionalGet.respondList(request, userService.getUsersVersion(pageable),
+                () -> userService.getAllUsers(pageable));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Obtener usuario", description = "Obtiene un usuario por su ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Usuario encontrado"),
+        @ApiResponse(responseCode = "304", description = "Sin cambios respecto al ETag enviado en If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
     })
-    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
-        return ResponseEntity.ok(userService.getUserById(id));
+    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id, ServletWebRequest request) {
+        return ConditionalGet.respond(request, userService.getUserVersion(id), () -> userService.getUserById(id));
     }
 
     @DeleteMapping("/{id}")
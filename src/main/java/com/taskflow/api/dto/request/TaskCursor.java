@@ -0,0 +1,56 @@
+package com.taskflow.api.dto.request;
+
+import com.taskflow.api.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posición de keyset dentro del listado de tareas: la última fila devuelta
+ * en la página anterior. Se serializa como un token opaco en base64 url-safe.
+ */
+public record TaskCursor(TaskSort sort, LocalDate dueDate, long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static TaskCursor after(TaskSort sort, LocalDate dueDate, long id) {
+        return new TaskCursor(sort, sort == TaskSort.DUE_DATE ? dueDate : null, id);
+    }
+
+    public String encode() {
+        String raw = switch (sort) {
+            case ID -> "id:" + id;
+            case DUE_DATE -> "due:" + (dueDate != null ? dueDate : "") + ":" + id;
+        };
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token, TaskSort expectedSort) {
+        try {
+            String[] parts = new String(DECODER.decode(token), StandardCharsets.UTF_8).split(":", -1);
+            TaskCursor cursor = switch (parts[0]) {
+                case "id" -> parts.length == 2
+                        ? new TaskCursor(TaskSort.ID, null, Long.parseLong(parts[1]))
+                        : null;
+                case "due" -> parts.length == 3
+                        ? new TaskCursor(TaskSort.DUE_DATE,
+                                parts[1].isEmpty() ? null : LocalDate.parse(parts[1]),
+                                Long.parseLong(parts[2]))
+                        : null;
+                default -> null;
+            };
+            if (cursor == null) {
+                throw new ValidationException("Cursor inválido");
+            }
+            if (cursor.sort() != expectedSort) {
+                throw new ValidationException("El cursor no corresponde al orden solicitado");
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ValidationException("Cursor inválido");
+        }
+    }
+}
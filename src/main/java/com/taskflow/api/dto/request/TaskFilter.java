@@ -0,0 +1,24 @@
+package com.taskflow.api.dto.request;
+
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+
+    private TaskStatus status;
+    private Priority priority;
+    private Long userId;
+    private Long projectId;
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+}
@@ -0,0 +1,31 @@
+package com.taskflow.api.dto.request;
+
+import com.taskflow.api.exception.ValidationException;
+
+/**
+ * Orden soportado por el listado paginado de tareas. Cada valor corresponde
+ * a una clave de keyset estable: {@code (id)} o {@code (dueDate, id)}.
+ */
+public enum TaskSort {
+    ID("id"),
+    DUE_DATE("dueDate");
+
+    private final String param;
+
+    TaskSort(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public static TaskSort fromParam(String value) {
+        for (TaskSort sort : values()) {
+            if (sort.param.equalsIgnoreCase(value) || sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new ValidationException("Orden no soportado: " + value + " (valores válidos: id, dueDate)");
+    }
+}
@@ -0,0 +1,49 @@
+package com.taskflow.api.dto.request;
+
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Actualización parcial de una tarea: los campos nulos (o ausentes) no se modifican.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateTaskRequest {
+
+    @Size(min = 1, max = 255, message = "El título debe tener entre 1 y 255 caracteres")
+    @Pattern(regexp = "(?s).*\\S.*", message = "El título no puede estar vacío")
+    private String title;
+
+    @Size(max = 1000, message = "La descripción no puede exceder 1000 caracteres")
+    private String description;
+
+    private TaskStatus status;
+
+    private Priority priority;
+
+    private LocalDate dueDate;
+
+    private Long userId;
+
+    private Long projectId;
+
+    public boolean isEmpty() {
+        return title == null && description == null && status == null && priority == null
+                && dueDate == null && userId == null && projectId == null;
+    }
+
+    public boolean isStatusOnly() {
+        return status != null && title == null && description == null && priority == null
+                && dueDate == null && userId == null && projectId == null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskflow.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult {
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    private int index;
+    private Status status;
+    private Long id;
+    private String error;
+
+    public static BatchItemResult created(int index, Long id) {
+        return BatchItemResult.builder().index(index).status(Status.CREATED).id(id).build();
+    }
+
+    public static BatchItemResult rejected(int index, String error) {
+        return BatchItemResult.builder().index(index).status(Status.REJECTED).error(error).build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskflow.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse {
+
+    private int created;
+    private int rejected;
+    private List<BatchItemResult> results;
+
+    public static BatchResponse of(List<BatchItemResult> results) {
+        int created = (int) results.stream()
+                .filter(result -> result.getStatus() == BatchItemResult.Status.CREATED)
+                .count();
+        return new BatchResponse(created, results.size() - created, results);
+    }
+}
@@ -1,11 +1,13 @@
 package com.taskflow.api.dto.response;
 
+import com.taskflow.api.model.enums.TaskStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @Builder
@@ -19,4 +21,5 @@ public class ProjectResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Integer taskCount;
+    private Map<TaskStatus, Long> taskCountByStatus;
 }
@@ -0,0 +1,21 @@
+package com.taskflow.api.dto.response;
+
+import com.taskflow.api.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCounts {
+
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+    // Sin completar y con dueDate anterior a hoy
+    private long overdue;
+}
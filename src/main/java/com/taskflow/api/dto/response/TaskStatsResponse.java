@@ -0,0 +1,22 @@
+package com.taskflow.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsResponse {
+
+    private TaskCounts total;
+    private Map<Long, TaskCounts> byProject;
+    private Map<Long, TaskCounts> byUser;
+    // Última reconciliación con la base de datos (null hasta la primera)
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,27 @@
+package com.taskflow.api.dto.response;
+
+import com.taskflow.api.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Datos de un evento de {@code GET /api/tasks/stream}. Para {@code DELETED} los campos
+ * son los de la tarea antes de eliminarla; en el resto, su estado ya confirmado.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStreamEvent {
+
+    private String type;
+    private Long taskId;
+    private TaskStatus status;
+    private LocalDate dueDate;
+    private Long userId;
+    private Long projectId;
+}
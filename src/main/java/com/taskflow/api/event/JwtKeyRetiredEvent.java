@@ -0,0 +1,8 @@
+package com.taskflow.api.event;
+
+/**
+ * Se publica cuando se retira una clave de firma: los tokens firmados con
+ * ella dejan de ser válidos y deben salir de las cachés.
+ */
+public record JwtKeyRetiredEvent(String keyId) {
+}
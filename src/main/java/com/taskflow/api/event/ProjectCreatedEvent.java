@@ -0,0 +1,7 @@
+package com.taskflow.api.event;
+
+/**
+ * Se publica al crear un proyecto, dentro de la transacción del alta.
+ */
+public record ProjectCreatedEvent(Long projectId, String name, String description) {
+}
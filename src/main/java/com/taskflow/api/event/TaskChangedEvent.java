@@ -0,0 +1,33 @@
+package com.taskflow.api.event;
+
+import com.taskflow.api.repository.projection.TaskSnapshot;
+
+/**
+ * Se publica al crear, modificar o marcar como eliminada una tarea, con su estado
+ * antes ({@code null} al crear) y después ({@code null} al eliminar). Los listeners
+ * que mantienen estado derivado lo aplican al confirmarse la transacción.
+ */
+public record TaskChangedEvent(Type type, TaskSnapshot before, TaskSnapshot after) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static TaskChangedEvent created(TaskSnapshot after) {
+        return new TaskChangedEvent(Type.CREATED, null, after);
+    }
+
+    public static TaskChangedEvent updated(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(Type.UPDATED, before, after);
+    }
+
+    public static TaskChangedEvent deleted(TaskSnapshot before) {
+        return new TaskChangedEvent(Type.DELETED, before, null);
+    }
+
+    public Long taskId() {
+        return after != null ? after.id() : before.id();
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskflow.api.event;
+
+/**
+ * Se publica cuando un usuario se marca como eliminado. Los listeners que
+ * mantienen estado derivado del usuario (cachés, tokens) lo invalidan al
+ * confirmarse la transacción.
+ */
+public record UserDeletedEvent(Long userId, String email) {
+}
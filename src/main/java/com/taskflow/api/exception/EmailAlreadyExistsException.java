@@ -1,8 +1,29 @@
 package com.taskflow.api.exception;
 
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.util.Locale;
+
 public class EmailAlreadyExistsException extends RuntimeException {
 
+    // Nombre de la restricción única en V1__create_schema.sql (V10 renombra la de las bases
+    // adoptadas desde ddl-auto); H2 lo devuelve en mayúsculas
+    private static final String UNIQUE_CONSTRAINT = "uk_users_email";
+
     public EmailAlreadyExistsException(String email) {
         super("Email already exists: " + email);
     }
+
+    /**
+     * Si el error de integridad viene de la restricción única sobre {@code users.email}.
+     */
+    public static boolean isCauseOf(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
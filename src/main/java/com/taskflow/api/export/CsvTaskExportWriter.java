@@ -0,0 +1,74 @@
+package com.taskflow.api.export;
+
+import com.taskflow.api.repository.projection.TaskView;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV según RFC 4180: cabecera, separador coma, fin de línea CRLF y comillas dobles
+ * solo en los campos que contienen coma, comillas o saltos de línea.
+ */
+public class CsvTaskExportWriter implements TaskExportWriter {
+
+    static final String HEADER = "id,title,description,status,priority,dueDate,userId,userName,"
+            + "projectId,projectName,createdAt,updatedAt";
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Writer out;
+
+    public CsvTaskExportWriter(OutputStream out) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.out.write(HEADER);
+        this.out.write("\r\n");
+    }
+
+    @Override
+    public void write(TaskView task) throws IOException {
+        field(task.id());
+        field(task.title());
+        field(task.description());
+        field(task.status());
+        field(task.priority());
+        field(task.dueDate());
+        field(task.userId());
+        field(task.userName());
+        field(task.projectId());
+        field(task.projectName());
+        field(task.createdAt());
+        out.write(task.updatedAt() != null ? escape(task.updatedAt().toString()) : "");
+        out.write("\r\n");
+    }
+
+    private void field(Object value) throws IOException {
+        if (value != null) {
+            out.write(escape(value.toString()));
+        }
+        out.write(',');
+    }
+
+    static String escape(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Solo se vacía: el OutputStream de la respuesta lo cierra el contenedor
+        out.flush();
+    }
+}
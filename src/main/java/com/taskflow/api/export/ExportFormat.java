@@ -0,0 +1,37 @@
+package com.taskflow.api.export;
+
+import com.taskflow.api.exception.ValidationException;
+
+/**
+ * Formatos de la exportación en streaming. Ambos son orientados a filas: cada
+ * tarea se escribe en cuanto llega del cursor, sin construir un documento completo.
+ */
+public enum ExportFormat {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String param;
+    private final String contentType;
+
+    ExportFormat(String param, String contentType) {
+        this.param = param;
+        this.contentType = contentType;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static ExportFormat fromParam(String value) {
+        for (ExportFormat format : values()) {
+            if (format.param.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ValidationException("Formato de exportación no soportado: " + value + " (valores válidos: ndjson, csv)");
+    }
+}
@@ -0,0 +1,49 @@
+package com.taskflow.api.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskflow.api.dto.response.TaskResponse;
+import com.taskflow.api.mapper.TaskMapper;
+import com.taskflow.api.repository.projection.TaskView;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Un objeto JSON por línea con la misma forma que {@link TaskResponse}, escrito con
+ * un único generador sobre la salida (sin String intermedio por fila).
+ */
+public class NdjsonTaskExportWriter implements TaskExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    public NdjsonTaskExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // El separador entre valores raíz lo ponemos nosotros: '\n' al final de cada fila
+        this.generator.setRootValueSeparator(null);
+        // Sin flush por fila: el volcado a la red lo decide quien escribe
+        this.writer = objectMapper.writerFor(TaskResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(TaskView task) throws IOException {
+        writer.writeValue(generator, TaskMapper.toResponse(task));
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskflow.api.export;
+
+import com.taskflow.api.repository.projection.TaskView;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Escribe tareas de una en una sobre la salida de la respuesta. {@link #close()}
+ * vacía el buffer pero no cierra el stream subyacente, que pertenece al contenedor.
+ */
+public interface TaskExportWriter extends Closeable {
+
+    void write(TaskView task) throws IOException;
+
+    void flush() throws IOException;
+}
@@ -3,6 +3,11 @@ package com.taskflow.api.mapper;
 import com.taskflow.api.dto.request.CreateProjectRequest;
 import com.taskflow.api.dto.response.ProjectResponse;
 import com.taskflow.api.model.Project;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.projection.ProjectView;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 public class ProjectMapper {
 
@@ -16,6 +21,10 @@ public class ProjectMapper {
                 .build();
     }
 
+    /**
+     * Para proyectos recién creados: todavía no tienen tareas, así que no se
+     * consulta la colección {@code tasks}.
+     */
     public static ProjectResponse toResponse(Project project) {
         return ProjectResponse.builder()
                 .id(project.getId())
@@ -23,7 +32,29 @@ public class ProjectMapper {
                 .description(project.getDescription())
                 .createdAt(project.getCreatedAt())
                 .updatedAt(project.getUpdatedAt())
-                .taskCount(project.getTasks() != null ? project.getTasks().size() : 0)
+                .taskCount(0)
+                .taskCountByStatus(countsByStatus(0, 0, 0))
                 .build();
     }
+
+    public static ProjectResponse toResponse(ProjectView view) {
+        long total = view.todoCount() + view.inProgressCount() + view.doneCount();
+        return ProjectResponse.builder()
+                .id(view.id())
+                .name(view.name())
+                .description(view.description())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .taskCount(Math.toIntExact(total))
+                .taskCountByStatus(countsByStatus(view.todoCount(), view.inProgressCount(), view.doneCount()))
+                .build();
+    }
+
+    private static Map<TaskStatus, Long> countsByStatus(long todo, long inProgress, long done) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        counts.put(TaskStatus.TODO, todo);
+        counts.put(TaskStatus.IN_PROGRESS, inProgress);
+        counts.put(TaskStatus.DONE, done);
+        return counts;
+    }
 }
@@ -5,6 +5,8 @@ import com.taskflow.api.dto.response.TaskResponse;
 import com.taskflow.api.model.Project;
 import com.taskflow.api.model.Task;
 import com.taskflow.api.model.User;
+import com.taskflow.api.repository.projection.TaskSnapshot;
+import com.taskflow.api.repository.projection.TaskView;
 
 public class TaskMapper {
 
@@ -39,4 +41,32 @@ public class TaskMapper {
                 .updatedAt(task.getUpdatedAt())
                 .build();
     }
+
+    public static TaskSnapshot toSnapshot(Task task) {
+        // getId() sobre un proxy LAZY no lo inicializa
+        return new TaskSnapshot(
+                task.getId(),
+                task.getVersion() != null ? task.getVersion() : 0,
+                task.getStatus(),
+                task.getDueDate(),
+                task.getAssignedUser() != null ? task.getAssignedUser().getId() : null,
+                task.getProject() != null ? task.getProject().getId() : null);
+    }
+
+    public static TaskResponse toResponse(TaskView view) {
+        return TaskResponse.builder()
+                .id(view.id())
+                .title(view.title())
+                .description(view.description())
+                .status(view.status())
+                .priority(view.priority())
+                .dueDate(view.dueDate())
+                .userId(view.userId())
+                .userName(view.userName())
+                .projectId(view.projectId())
+                .projectName(view.projectName())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .build();
+    }
 }
@@ -5,6 +5,8 @@ import com.taskflow.api.dto.response.UserResponse;
 import com.taskflow.api.model.User;
 import com.taskflow.api.model.enums.Role;
 
+import java.util.Locale;
+
 public class UserMapper {
 
     private UserMapper() {
@@ -13,13 +15,21 @@ public class UserMapper {
     public static User toEntity(CreateUserRequest request) {
         return User.builder()
                 .name(request.getName())
-                .email(request.getEmail())
+                .email(normalizeEmail(request.getEmail()))
                 .password(request.getPassword())
                 .active(true)
                 .role(Role.USER)
                 .build();
     }
 
+    /**
+     * Forma única con la que se guardan y buscan los emails: sin espacios y en
+     * minúsculas ({@code ck_users_email_normalized}).
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
     public static UserResponse toResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
@@ -11,8 +11,10 @@ import java.time.LocalDateTime;
 @Setter
 public abstract class BaseEntity {
 
+    // Secuencia por entidad con optimizador pooled (allocationSize 50): los ids se
+    // asignan en memoria y Hibernate puede agrupar los INSERT en lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @Column(nullable = false, updatable = false)
@@ -24,6 +26,11 @@ public abstract class BaseEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // Bloqueo optimista: cada UPDATE lleva "AND version = ?" y la incrementa
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
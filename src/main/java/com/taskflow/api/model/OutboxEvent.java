@@ -0,0 +1,42 @@
+package com.taskflow.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento pendiente de entregar a sistemas externos. Se inserta en la misma
+ * transacción que el cambio que describe y se borra cuando el relay lo entrega.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    // task, project, user
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    // <aggregateType>.<created|updated|deleted>
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    // JSON
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
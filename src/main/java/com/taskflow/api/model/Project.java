@@ -1,7 +1,10 @@
 package com.taskflow.api.model;
 
+import com.taskflow.api.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Where;
 
 import java.util.List;
@@ -14,6 +17,8 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Where(clause = "deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PROJECTS_REGION)
 public class Project extends BaseEntity {
 
     @Column(nullable = false)
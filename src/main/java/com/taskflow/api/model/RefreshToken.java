@@ -0,0 +1,47 @@
+package com.taskflow.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh token opaco. Solo se guarda su hash; cada uso lo marca como usado y emite
+ * otro de la misma familia. Presentar uno ya usado revoca la familia entera.
+ */
+@Entity
+@Table(name = "refresh_tokens")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    // SHA-256 en hexadecimal
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // Cadena de rotaciones que parte de un mismo login
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime usedAt;
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
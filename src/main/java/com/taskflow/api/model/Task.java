@@ -4,17 +4,21 @@ import com.taskflow.api.model.enums.Priority;
 import com.taskflow.api.model.enums.TaskStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Where;
 
 import java.time.LocalDate;
 
 @Entity
+// Índices (parciales en PostgreSQL): db/migration/{vendor}/V2__soft_delete_indexes.sql
 @Table(name = "tasks")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+// Los UPDATE solo incluyen las columnas modificadas (PATCH parciales)
+@DynamicUpdate
 @Where(clause = "deleted_at IS NULL")
 public class Task extends BaseEntity {
 
@@ -41,4 +45,11 @@ public class Task extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
     private Project project;
+
+    // Columnas FK de solo lectura: permiten filtrar por id sin pasar por el JOIN
+    @Column(name = "user_id", insertable = false, updatable = false)
+    private Long assignedUserId;
+
+    @Column(name = "project_id", insertable = false, updatable = false)
+    private Long projectId;
 }
@@ -0,0 +1,36 @@
+package com.taskflow.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Revocación de access tokens: uno concreto por {@code jti} o, con {@code userId},
+ * todos los del usuario emitidos hasta {@code revokedAt}. Se borra al llegar a
+ * {@code expiresAt}, cuando ya no queda ningún token afectado vigente.
+ */
+@Entity
+@Table(name = "token_revocations")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Column(length = 36)
+    private String jti;
+
+    private Long userId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
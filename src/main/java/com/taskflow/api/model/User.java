@@ -1,8 +1,11 @@
 package com.taskflow.api.model;
 
+import com.taskflow.api.config.SecondLevelCacheConfig;
 import com.taskflow.api.model.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Where;
 
 import java.util.List;
@@ -15,6 +18,8 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Where(clause = "deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USERS_REGION)
 public class User extends BaseEntity {
 
     @Column(nullable = false)
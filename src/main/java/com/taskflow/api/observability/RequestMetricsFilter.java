@@ -0,0 +1,111 @@
+package com.taskflow.api.observability;
+
+import com.taskflow.api.observability.RequestSqlStats.StatementStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Por petición: número de sentencias SQL y tiempo JDBC, con las mismas etiquetas
+ * {@code method} y {@code uri} que {@code http.server.requests} para poder
+ * restarlos de la latencia total. Las peticiones que superan
+ * {@code observability.slow-request.threshold} se registran con sus sentencias más
+ * costosas: ejecuciones, filas y tiempo de cada una.
+ *
+ * <p>Las respuestas asíncronas (stream SSE) no se miden: su duración es la de la
+ * suscripción, no la del trabajo hecho.
+ */
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final int LOGGED_STATEMENTS = 5;
+    private static final int LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry registry;
+    private final Duration slowThreshold;
+
+    public RequestMetricsFilter(MeterRegistry registry, Duration slowThreshold) {
+        this.registry = registry;
+        this.slowThreshold = slowThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.begin();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            RequestSqlStats.end();
+            if (!request.isAsyncStarted()) {
+                record(request, response, stats, elapsed);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestSqlStats stats, long elapsed) {
+        // Patrón de la ruta (/api/tasks/{id}), nunca la URI concreta: acota la cardinalidad
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("request.sql.statements")
+                .description("Sentencias SQL ejecutadas por petición")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.count());
+        Timer.builder("request.sql.time")
+                .description("Tiempo en ejecución de sentencias SQL por petición")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(stats.nanos(), TimeUnit.NANOSECONDS);
+
+        if (elapsed < slowThreshold.toNanos()) {
+            return;
+        }
+        Counter.builder("request.slow")
+                .description("Peticiones por encima de observability.slow-request.threshold")
+                .tags(tags)
+                .register(registry)
+                .increment();
+        if (log.isWarnEnabled()) {
+            log.warn("Petición lenta: {} {} -> {} en {} ms; {} sentencias SQL en {} ms{}",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), stats.count(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.nanos()), slowestStatements(stats));
+        }
+    }
+
+    private static String slowestStatements(RequestSqlStats stats) {
+        StringBuilder details = new StringBuilder();
+        for (StatementStats statement : stats.slowest(LOGGED_STATEMENTS)) {
+            // Las consultas nativas (bloques de texto) ocupan varias líneas
+            String sql = statement.sql().replaceAll("\\s+", " ");
+            if (sql.length() > LOGGED_SQL_LENGTH) {
+                sql = sql.substring(0, LOGGED_SQL_LENGTH) + "...";
+            }
+            details.append(String.format("%n  %d ms, %d ejecuciones, %d filas: %s",
+                    TimeUnit.NANOSECONDS.toMillis(statement.nanos()), statement.executions(),
+                    statement.rows(), sql));
+        }
+        return details.toString();
+    }
+}
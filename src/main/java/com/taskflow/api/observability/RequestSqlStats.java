@@ -0,0 +1,101 @@
+package com.taskflow.api.observability;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sentencias SQL de una petición HTTP: número, tiempo JDBC total y, por cada
+ * sentencia distinta, ejecuciones, filas y tiempo. La rellena
+ * {@link SqlMetricsDataSource} en el hilo de la petición y la lee
+ * {@link RequestMetricsFilter} al terminar; no se comparte entre hilos.
+ */
+final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    // Acota la memoria de peticiones con SQL generado sin parámetros (IN con n literales)
+    private static final int MAX_DISTINCT_STATEMENTS = 100;
+    private static final String OTHER_STATEMENTS = "(otras sentencias)";
+
+    private final Map<String, StatementStats> statements = new LinkedHashMap<>();
+    private int count;
+    private long nanos;
+
+    static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    StatementStats statement(String sql) {
+        String key = sql != null ? sql : OTHER_STATEMENTS;
+        if (statements.size() >= MAX_DISTINCT_STATEMENTS && !statements.containsKey(key)) {
+            key = OTHER_STATEMENTS;
+        }
+        return statements.computeIfAbsent(key, StatementStats::new);
+    }
+
+    void record(StatementStats statement, long elapsedNanos) {
+        count++;
+        nanos += elapsedNanos;
+        statement.executions++;
+        statement.nanos += elapsedNanos;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long nanos() {
+        return nanos;
+    }
+
+    List<StatementStats> slowest(int limit) {
+        List<StatementStats> sorted = new ArrayList<>(statements.values());
+        sorted.sort(Comparator.comparingLong(StatementStats::nanos).reversed());
+        return sorted.subList(0, Math.min(limit, sorted.size()));
+    }
+
+    static final class StatementStats {
+
+        private final String sql;
+        private int executions;
+        private long rows;
+        private long nanos;
+
+        private StatementStats(String sql) {
+            this.sql = sql;
+        }
+
+        void addRows(long rows) {
+            this.rows += rows;
+        }
+
+        String sql() {
+            return sql;
+        }
+
+        int executions() {
+            return executions;
+        }
+
+        long rows() {
+            return rows;
+        }
+
+        long nanos() {
+            return nanos;
+        }
+    }
+}
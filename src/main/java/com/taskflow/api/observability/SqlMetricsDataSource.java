@@ -0,0 +1,139 @@
+package com.taskflow.api.observability;
+
+import com.taskflow.api.observability.RequestSqlStats.StatementStats;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Mide cada sentencia ejecutada dentro de una petición HTTP (tiempo de
+ * {@code execute*} y filas devueltas o modificadas) y lo acumula en su
+ * {@link RequestSqlStats}. Fuera de una petición (jobs programados, Flyway) las
+ * sentencias no se envuelven y no tienen coste añadido.
+ *
+ * <p>El tiempo no incluye la espera por una conexión, que ya miden
+ * {@code hikaricp.connections.acquire} y {@code jdbc.connections.limiter.wait}.
+ */
+public class SqlMetricsDataSource extends DelegatingDataSource {
+
+    private static final ClassLoader CLASS_LOADER = SqlMetricsDataSource.class.getClassLoader();
+
+    public SqlMetricsDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return measuring(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return measuring(super.getConnection(username, password));
+    }
+
+    private static Connection measuring(Connection target) {
+        return (Connection) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "createStatement" -> statement(Statement.class, invoke(target, method, args), null);
+                    case "prepareStatement" ->
+                            statement(PreparedStatement.class, invoke(target, method, args), (String) args[0]);
+                    case "prepareCall" ->
+                            statement(CallableStatement.class, invoke(target, method, args), (String) args[0]);
+                    case "getTargetConnection" -> target;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private static Object statement(Class<? extends Statement> type, Object target, String preparedSql) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats == null) {
+            return target;
+        }
+        // Con createStatement el SQL llega en cada execute*
+        StatementStats prepared = preparedSql != null ? stats.statement(preparedSql) : null;
+        return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "executeQuery" -> {
+                        StatementStats statement = statsFor(stats, prepared, args);
+                        yield countingRows((ResultSet) timed(stats, statement, target, method, args), statement);
+                    }
+                    case "executeUpdate", "executeLargeUpdate" -> {
+                        StatementStats statement = statsFor(stats, prepared, args);
+                        Object updated = timed(stats, statement, target, method, args);
+                        statement.addRows(((Number) updated).longValue());
+                        yield updated;
+                    }
+                    case "executeBatch" -> {
+                        StatementStats statement = statsFor(stats, prepared, null);
+                        int[] updated = (int[]) timed(stats, statement, target, method, args);
+                        for (int rows : updated) {
+                            statement.addRows(Math.max(rows, 0));
+                        }
+                        yield updated;
+                    }
+                    case "execute" -> timed(stats, statsFor(stats, prepared, args), target, method, args);
+                    case "getResultSet" ->
+                            countingRows((ResultSet) invoke(target, method, args), statsFor(stats, prepared, null));
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private static StatementStats statsFor(RequestSqlStats stats, StatementStats prepared, Object[] args) {
+        if (prepared != null) {
+            return prepared;
+        }
+        return stats.statement(args != null && args.length > 0 && args[0] instanceof String sql ? sql : null);
+    }
+
+    private static Object timed(RequestSqlStats stats, StatementStats statement,
+                                Object target, Method method, Object[] args) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return invoke(target, method, args);
+        } finally {
+            stats.record(statement, System.nanoTime() - start);
+        }
+    }
+
+    private static ResultSet countingRows(ResultSet target, StatementStats statement) {
+        if (target == null) {
+            return null;
+        }
+        return (ResultSet) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "next" -> {
+                        boolean hasRow = (boolean) invoke(target, method, args);
+                        if (hasRow) {
+                            statement.addRows(1);
+                        }
+                        yield hasRow;
+                    }
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
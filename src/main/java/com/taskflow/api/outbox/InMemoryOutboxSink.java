@@ -0,0 +1,37 @@
+package com.taskflow.api.outbox;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Guarda en memoria los eventos entregados, para tests y entornos sin destino
+ * externo. {@link #failNext} simula fallos del destino para probar los reintentos.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxMessage> delivered = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) throws IOException {
+        if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            throw new IOException("Fallo simulado del destino del outbox");
+        }
+        delivered.addAll(messages);
+    }
+
+    public List<OutboxMessage> delivered() {
+        return List.copyOf(delivered);
+    }
+
+    public void failNext(int deliveries) {
+        failures.set(deliveries);
+    }
+
+    public void clear() {
+        delivered.clear();
+        failures.set(0);
+    }
+}
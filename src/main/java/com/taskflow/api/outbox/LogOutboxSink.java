@@ -0,0 +1,29 @@
+package com.taskflow.api.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Escribe cada evento como una línea JSON en el log (logger
+ * {@code com.taskflow.api.outbox.LogOutboxSink}), que se puede enrutar a su propio
+ * appender.
+ */
+@Slf4j
+public class LogOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+
+    public LogOutboxSink(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) throws IOException {
+        for (OutboxMessage message : messages) {
+            log.info(objectMapper.writeValueAsString(message));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskflow.api.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento del outbox tal como se entrega a un {@link OutboxSink}. El {@code id} es
+ * estable entre reintentos: los consumidores lo usan para descartar duplicados.
+ */
+public record OutboxMessage(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        @JsonRawValue String payload,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,179 @@
+package com.taskflow.api.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entrega los eventos del outbox al {@link OutboxSink} en lotes de hasta
+ * {@code outbox.relay.batch-size}. Un lote incompleto espera hasta que su evento más
+ * antiguo tiene {@code outbox.relay.linger}, para no entregar de uno en uno con carga
+ * baja. Cada lote se bloquea, se entrega y se borra en una transacción: si el destino
+ * falla o la transacción no se confirma, el lote se vuelve a entregar (al menos una
+ * vez). Solo hay un lote en vuelo por nodo y, tras un fallo, los reintentos se espacian
+ * con backoff exponencial: un destino lento o caído frena al relay, nunca a las
+ * escrituras, cuyos eventos se acumulan en la tabla.
+ *
+ * <p>Lee y borra con JDBC: no necesita contexto de persistencia y sus consultas
+ * periódicas no se mezclan con las estadísticas de Hibernate.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    // SKIP LOCKED salta los eventos que ya tiene otro nodo: cada relay entrega lotes distintos
+    private static final String LOCK_NEXT_BATCH = """
+            SELECT id, aggregate_type, aggregate_id, event_type, payload, created_at
+            FROM outbox_events
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String DELETE_BATCH = "DELETE FROM outbox_events WHERE id IN (:ids)";
+
+    private static final RowMapper<OutboxMessage> MESSAGE = (rs, rowNum) -> new OutboxMessage(
+            rs.getLong("id"),
+            rs.getString("aggregate_type"),
+            rs.getLong("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OutboxSink sink;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+
+    private final Counter delivered;
+    private final Counter failures;
+    private final Timer deliveryTime;
+    private final Timer latency;
+
+    private volatile LocalDateTime oldestPending;
+    private int consecutiveFailures;
+    private long retryAt;
+
+    public OutboxRelay(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            OutboxSink sink,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.linger:200ms}") Duration linger,
+            @Value("${outbox.relay.backoff:1s}") Duration backoff,
+            @Value("${outbox.relay.max-backoff:1m}") Duration maxBackoff) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sink = sink;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        this.delivered = Counter.builder("outbox.delivered")
+                .description("Eventos del outbox entregados")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.delivery.failures")
+                .description("Lotes del outbox que el destino rechazó o no se pudieron confirmar")
+                .register(meterRegistry);
+        this.deliveryTime = Timer.builder("outbox.delivery")
+                .description("Duración de la entrega de un lote al destino")
+                .register(meterRegistry);
+        this.latency = Timer.builder("outbox.latency")
+                .description("Tiempo desde que se escribe un evento hasta que se entrega")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", this, OutboxRelay::lagSeconds)
+                .description("Antigüedad del evento pendiente más antiguo")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:PT0.5S}")
+    public synchronized void relay() {
+        if (consecutiveFailures > 0 && System.nanoTime() - retryAt < 0) {
+            return;
+        }
+        try {
+            // Mientras haya lotes completos se sigue sin esperar al siguiente ciclo
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+            consecutiveFailures = 0;
+        } catch (RuntimeException e) {
+            failures.increment();
+            consecutiveFailures++;
+            Duration wait = backoff.multipliedBy(1L << Math.min(consecutiveFailures - 1, 20));
+            if (wait.compareTo(maxBackoff) > 0) {
+                wait = maxBackoff;
+            }
+            retryAt = System.nanoTime() + wait.toNanos();
+            log.warn("Fallo al entregar eventos del outbox ({} seguidos), reintento en {} ms: {}",
+                    consecutiveFailures, wait.toMillis(), e.getMessage());
+        }
+    }
+
+    /**
+     * Entrega el siguiente lote y devuelve cuántos eventos tenía (0 si no había nada
+     * o el lote está esperando a completarse).
+     */
+    private int relayBatch() {
+        Integer relayed = transaction.execute(status -> {
+            List<OutboxMessage> batch = jdbcTemplate.query(LOCK_NEXT_BATCH, Map.of("limit", batchSize), MESSAGE);
+            if (batch.isEmpty()) {
+                oldestPending = null;
+                return 0;
+            }
+            LocalDateTime oldest = batch.get(0).createdAt();
+            oldestPending = oldest;
+            if (batch.size() < batchSize && oldest.isAfter(LocalDateTime.now().minus(linger))) {
+                return 0;
+            }
+
+            deliveryTime.record(() -> deliver(batch));
+            jdbcTemplate.update(DELETE_BATCH, Map.of("ids", batch.stream().map(OutboxMessage::id).toList()));
+
+            LocalDateTime now = LocalDateTime.now();
+            for (OutboxMessage message : batch) {
+                latency.record(Duration.between(message.createdAt(), now));
+            }
+            delivered.increment(batch.size());
+            return batch.size();
+        });
+        return relayed != null ? relayed : 0;
+    }
+
+    private void deliver(List<OutboxMessage> batch) {
+        try {
+            sink.deliver(batch);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private double lagSeconds() {
+        LocalDateTime oldest = oldestPending;
+        if (oldest == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()) / 1000.0;
+    }
+}
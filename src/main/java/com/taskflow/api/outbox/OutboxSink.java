@@ -0,0 +1,14 @@
+package com.taskflow.api.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destino de los eventos del outbox. Recibe lotes en orden de id, de uno en uno; si
+ * {@link #deliver} lanza una excepción el lote entero se reintenta más tarde, así que
+ * un mismo evento puede entregarse más de una vez.
+ */
+public interface OutboxSink {
+
+    void deliver(List<OutboxMessage> messages) throws IOException;
+}
@@ -0,0 +1,64 @@
+package com.taskflow.api.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.event.ProjectCreatedEvent;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.event.UserDeletedEvent;
+import com.taskflow.api.model.OutboxEvent;
+import com.taskflow.api.repository.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Convierte los eventos de dominio en filas del outbox justo antes de confirmar la
+ * transacción que los publica: el evento existe si y solo si el cambio se confirma.
+ * Las filas se insertan en el mismo flush que las entidades, agrupadas en lotes JDBC.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        // Estado confirmado de la tarea; al eliminarla, el último que tenía
+        Object task = event.after() != null ? event.after() : event.before();
+        append("task", event.taskId(), event.type().name(), task);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onProjectCreated(ProjectCreatedEvent event) {
+        append("project", event.projectId(), "CREATED", event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserDeleted(UserDeletedEvent event) {
+        append("user", event.userId(), "DELETED", event);
+    }
+
+    private void append(String aggregateType, Long aggregateId, String type, Object payload) {
+        try {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .aggregateType(aggregateType)
+                    .aggregateId(aggregateId)
+                    .eventType(aggregateType + "." + type.toLowerCase(Locale.ROOT))
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Solo escritura desde las transacciones de negocio; el relay lee y borra los
+ * eventos con JDBC (ver {@link com.taskflow.api.outbox.OutboxRelay}).
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
@@ -1,7 +1,55 @@
 package com.taskflow.api.repository;
 
 import com.taskflow.api.model.Project;
+import com.taskflow.api.repository.projection.CollectionVersion;
+import com.taskflow.api.repository.projection.ProjectVersion;
+import com.taskflow.api.repository.projection.ProjectView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    String VIEW_SELECT = "SELECT new com.taskflow.api.repository.projection.ProjectView("
+            + "p.id, p.name, p.description, p.createdAt, p.updatedAt, "
+            + "COUNT(CASE WHEN t.status = com.taskflow.api.model.enums.TaskStatus.TODO THEN 1 END), "
+            + "COUNT(CASE WHEN t.status = com.taskflow.api.model.enums.TaskStatus.IN_PROGRESS THEN 1 END), "
+            + "COUNT(CASE WHEN t.status = com.taskflow.api.model.enums.TaskStatus.DONE THEN 1 END)) "
+            + "FROM Project p LEFT JOIN Task t ON t.projectId = p.id AND t.deletedAt IS NULL ";
+
+    String VIEW_GROUP_BY = "GROUP BY p.id, p.name, p.description, p.createdAt, p.updatedAt ";
+
+    @Query(VIEW_SELECT + "WHERE p.deletedAt IS NULL " + VIEW_GROUP_BY + "ORDER BY p.id")
+    List<ProjectView> findAllViews();
+
+    @Query(VIEW_SELECT + "WHERE p.id = :id AND p.deletedAt IS NULL " + VIEW_GROUP_BY)
+    Optional<ProjectView> findViewById(@Param("id") Long id);
+
+    @Query("SELECT new com.taskflow.api.repository.projection.ProjectVersion(p.updatedAt, COUNT(t), MAX(t.updatedAt)) "
+            + "FROM Project p LEFT JOIN Task t ON t.projectId = p.id AND t.deletedAt IS NULL "
+            + "WHERE p.id = :id AND p.deletedAt IS NULL GROUP BY p.id, p.updatedAt")
+    Optional<ProjectVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.taskflow.api.repository.projection.CollectionVersion(COUNT(p), MAX(p.updatedAt)) "
+            + "FROM Project p WHERE p.deletedAt IS NULL")
+    CollectionVersion findCollectionVersion();
+
+    /**
+     * {@code findById} puede resolverse desde la caché de segundo nivel, que no
+     * aplica el {@code @Where} de borrado lógico: se descartan las entidades borradas.
+     */
+    default Optional<Project> findActiveById(Long id) {
+        return findById(id).filter(project -> !project.isDeleted());
+    }
+
+    /**
+     * Como {@link #findActiveById}, pero siempre contra la base de datos. La caché es
+     * local a cada nodo y puede no ver durante un TTL un borrado hecho en otro; las
+     * escrituras que validan una referencia usan esta.
+     */
+    @Query("SELECT p FROM Project p WHERE p.id = :id AND p.deletedAt IS NULL")
+    Optional<Project> findActiveByIdUncached(@Param("id") Long id);
 }
@@ -2,20 +2,63 @@ package com.taskflow.api.repository;
 
 import com.taskflow.api.model.Task;
 import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.projection.TaskCountRow;
+import com.taskflow.api.repository.projection.TaskSnapshot;
+import com.taskflow.api.repository.projection.TaskVersion;
+import com.taskflow.api.repository.projection.TaskView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
-    @Query("SELECT t FROM Task t WHERE t.status = :status AND t.deletedAt IS NULL")
-    List<Task> findByStatus(@Param("status") TaskStatus status);
+    String VIEW_SELECT = "SELECT new com.taskflow.api.repository.projection.TaskView("
+            + "t.id, t.title, t.description, t.status, t.priority, t.dueDate, "
+            + "t.assignedUserId, u.name, t.projectId, p.name, t.createdAt, t.updatedAt) "
+            + "FROM Task t LEFT JOIN t.assignedUser u LEFT JOIN t.project p ";
 
-    @Query("SELECT t FROM Task t WHERE t.assignedUser.id = :userId AND t.deletedAt IS NULL")
-    List<Task> findByAssignedUserId(@Param("userId") Long userId);
+    @Query(VIEW_SELECT + "WHERE t.id = :id AND t.deletedAt IS NULL")
+    Optional<TaskView> findViewById(@Param("id") Long id);
 
-    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.deletedAt IS NULL")
-    List<Task> findByProjectId(@Param("projectId") Long projectId);
+    @Query(VIEW_SELECT + "WHERE t.id IN :ids AND t.deletedAt IS NULL")
+    List<TaskView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.taskflow.api.repository.projection.TaskVersion(t.version, u.updatedAt, p.updatedAt) "
+            + "FROM Task t LEFT JOIN t.assignedUser u LEFT JOIN t.project p "
+            + "WHERE t.id = :id AND t.deletedAt IS NULL")
+    Optional<TaskVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.taskflow.api.repository.projection.TaskSnapshot("
+            + "t.id, t.version, t.status, t.dueDate, t.assignedUserId, t.projectId) "
+            + "FROM Task t WHERE t.id = :id AND t.deletedAt IS NULL")
+    Optional<TaskSnapshot> findSnapshotById(@Param("id") Long id);
+
+    // Cambio de estado en una sola sentencia, sin cargar la entidad: la condición sobre
+    // la versión hace de comparación atómica (0 filas = otra escritura se adelantó)
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1, t.updatedAt = :now "
+            + "WHERE t.id = :id AND t.version = :version AND t.deletedAt IS NULL")
+    int updateStatus(@Param("id") Long id, @Param("version") long version,
+                     @Param("status") TaskStatus status, @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.taskflow.api.repository.projection.TaskCountRow("
+            + "t.projectId, t.assignedUserId, t.status, t.dueDate, COUNT(t)) "
+            + "FROM Task t WHERE t.deletedAt IS NULL "
+            + "GROUP BY t.projectId, t.assignedUserId, t.status, t.dueDate")
+    List<TaskCountRow> countActiveGrouped();
+
+    @Query(VIEW_SELECT + "WHERE t.status = :status AND t.deletedAt IS NULL")
+    List<TaskView> findByStatus(@Param("status") TaskStatus status);
+
+    @Query(VIEW_SELECT + "WHERE t.assignedUserId = :userId AND t.deletedAt IS NULL")
+    List<TaskView> findByAssignedUserId(@Param("userId") Long userId);
+
+    @Query(VIEW_SELECT + "WHERE t.projectId = :projectId AND t.deletedAt IS NULL")
+    List<TaskView> findByProjectId(@Param("projectId") Long projectId);
 }
@@ -0,0 +1,35 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.request.TaskCursor;
+import com.taskflow.api.dto.request.TaskFilter;
+import com.taskflow.api.dto.request.TaskSort;
+import com.taskflow.api.repository.projection.TaskCollectionVersion;
+import com.taskflow.api.repository.projection.TaskView;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Devuelve hasta {@code limit} tareas (ya proyectadas) que cumplen el filtro, ordenadas por
+     * {@code sort} y posteriores a {@code after} (keyset). Solo se añaden al
+     * WHERE los predicados presentes, para que cada combinación use su índice.
+     */
+    List<TaskView> findPage(TaskFilter filter, TaskSort sort, TaskCursor after, int limit);
+
+    /**
+     * Recorre todas las tareas que cumplen el filtro, ordenadas por id, con un cursor
+     * de solo avance que trae {@code fetchSize} filas por viaje. El stream debe
+     * cerrarse y consumirse dentro de una transacción (PostgreSQL ignora el fetch
+     * size en autocommit y cargaría el resultado completo).
+     */
+    Stream<TaskView> streamAll(TaskFilter filter, int fetchSize);
+
+    /**
+     * Recuento y última modificación de las tareas activas que cumplen el filtro, con
+     * los mismos predicados que {@link #findPage}, y de los usuarios y proyectos que
+     * aparecen en sus filas.
+     */
+    TaskCollectionVersion findVersion(TaskFilter filter);
+}
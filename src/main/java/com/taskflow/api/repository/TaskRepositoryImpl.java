@@ -0,0 +1,118 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.request.TaskCursor;
+import com.taskflow.api.dto.request.TaskFilter;
+import com.taskflow.api.dto.request.TaskSort;
+import com.taskflow.api.repository.projection.TaskCollectionVersion;
+import com.taskflow.api.repository.projection.TaskView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskView> findPage(TaskFilter filter, TaskSort sort, TaskCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(TaskRepository.VIEW_SELECT).append("WHERE t.deletedAt IS NULL");
+        Map<String, Object> params = new HashMap<>();
+
+        appendFilter(jpql, params, filter);
+
+        if (after != null) {
+            if (sort == TaskSort.DUE_DATE && after.dueDate() != null) {
+                jpql.append(" AND (t.dueDate > :afterDueDate")
+                        .append(" OR (t.dueDate = :afterDueDate AND t.id > :afterId)")
+                        .append(" OR t.dueDate IS NULL)");
+                params.put("afterDueDate", after.dueDate());
+            } else if (sort == TaskSort.DUE_DATE) {
+                // Las tareas sin fecha van al final: solo quedan las nulas con id mayor
+                jpql.append(" AND t.dueDate IS NULL AND t.id > :afterId");
+            } else {
+                jpql.append(" AND t.id > :afterId");
+            }
+            params.put("afterId", after.id());
+        }
+
+        jpql.append(sort == TaskSort.DUE_DATE
+                ? " ORDER BY t.dueDate ASC NULLS LAST, t.id ASC"
+                : " ORDER BY t.id ASC");
+
+        TypedQuery<TaskView> query = entityManager.createQuery(jpql.toString(), TaskView.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<TaskView> streamAll(TaskFilter filter, int fetchSize) {
+        StringBuilder jpql = new StringBuilder(TaskRepository.VIEW_SELECT).append("WHERE t.deletedAt IS NULL");
+        Map<String, Object> params = new HashMap<>();
+
+        appendFilter(jpql, params, filter);
+        jpql.append(" ORDER BY t.id ASC");
+
+        // Las proyecciones DTO no son entidades gestionadas: el contexto de persistencia
+        // no crece mientras se recorre el cursor, así que no hace falta ir limpiándolo
+        TypedQuery<TaskView> query = entityManager.createQuery(jpql.toString(), TaskView.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        params.forEach(query::setParameter);
+        return query.getResultStream();
+    }
+
+    @Override
+    public TaskCollectionVersion findVersion(TaskFilter filter) {
+        // Mismos joins que VIEW_SELECT: un usuario o proyecto borrado no aparece en el join
+        StringBuilder jpql = new StringBuilder("SELECT new com.taskflow.api.repository.projection.TaskCollectionVersion("
+                + "COUNT(t), MAX(t.updatedAt), MAX(u.updatedAt), MAX(p.updatedAt), "
+                + "COUNT(CASE WHEN t.assignedUserId IS NOT NULL AND u.id IS NULL THEN 1 END), "
+                + "COUNT(CASE WHEN t.projectId IS NOT NULL AND p.id IS NULL THEN 1 END)) "
+                + "FROM Task t LEFT JOIN t.assignedUser u LEFT JOIN t.project p WHERE t.deletedAt IS NULL");
+        Map<String, Object> params = new HashMap<>();
+
+        appendFilter(jpql, params, filter);
+
+        TypedQuery<TaskCollectionVersion> query = entityManager.createQuery(jpql.toString(),
+                TaskCollectionVersion.class);
+        params.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    private static void appendFilter(StringBuilder jpql, Map<String, Object> params, TaskFilter filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.getStatus() != null) {
+            jpql.append(" AND t.status = :status");
+            params.put("status", filter.getStatus());
+        }
+        if (filter.getPriority() != null) {
+            jpql.append(" AND t.priority = :priority");
+            params.put("priority", filter.getPriority());
+        }
+        if (filter.getUserId() != null) {
+            jpql.append(" AND t.assignedUserId = :userId");
+            params.put("userId", filter.getUserId());
+        }
+        if (filter.getProjectId() != null) {
+            jpql.append(" AND t.projectId = :projectId");
+            params.put("projectId", filter.getProjectId());
+        }
+        if (filter.getDueFrom() != null) {
+            jpql.append(" AND t.dueDate >= :dueFrom");
+            params.put("dueFrom", filter.getDueFrom());
+        }
+        if (filter.getDueTo() != null) {
+            jpql.append(" AND t.dueDate <= :dueTo");
+            params.put("dueTo", filter.getDueTo());
+        }
+    }
+}
@@ -1,17 +1,53 @@
 package com.taskflow.api.repository;
 
 import com.taskflow.api.model.User;
+import com.taskflow.api.repository.projection.CollectionVersion;
+import com.taskflow.api.repository.projection.UserCredentials;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * Los emails se guardan normalizados ({@link com.taskflow.api.mapper.UserMapper#normalizeEmail}):
+     * el parámetro debe llegar igual para usar {@code uk_users_email}.
+     */
     @Query("SELECT u FROM User u WHERE u.email = :email AND u.deletedAt IS NULL")
     Optional<User> findByEmail(@Param("email") String email);
 
-    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.email = :email AND u.deletedAt IS NULL")
-    boolean existsByEmail(@Param("email") String email);
+    @Query("SELECT new com.taskflow.api.repository.projection.UserCredentials(u.id, u.email, u.password, u.role, u.active) "
+            + "FROM User u WHERE u.email = :email AND u.deletedAt IS NULL")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    /**
+     * Emails ya ocupados, incluidos los de usuarios borrados: la restricción única
+     * no distingue el borrado lógico.
+     */
+    @Query(value = "SELECT email FROM users WHERE email IN (:emails)", nativeQuery = true)
+    List<String> findTakenEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT new com.taskflow.api.repository.projection.CollectionVersion(COUNT(u), MAX(u.updatedAt)) "
+            + "FROM User u WHERE u.deletedAt IS NULL")
+    CollectionVersion findCollectionVersion();
+
+    /**
+     * {@code findById} puede resolverse desde la caché de segundo nivel, que no
+     * aplica el {@code @Where} de borrado lógico: se descartan las entidades borradas.
+     */
+    default Optional<User> findActiveById(Long id) {
+        return findById(id).filter(user -> !user.isDeleted());
+    }
+
+    /**
+     * Como {@link #findActiveById}, pero siempre contra la base de datos. La caché es
+     * local a cada nodo y puede no ver durante un TTL un borrado hecho en otro; las
+     * escrituras que validan una referencia usan esta.
+     */
+    @Query("SELECT u FROM User u WHERE u.id = :id AND u.deletedAt IS NULL")
+    Optional<User> findActiveByIdUncached(@Param("id") Long id);
 }
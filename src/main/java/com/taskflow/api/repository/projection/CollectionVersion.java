@@ -0,0 +1,13 @@
+package com.taskflow.api.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Validador barato de una colección: número de filas activas y última modificación.
+ * Crear o borrar cambia el recuento; cualquier actualización mueve el máximo.
+ */
+public record CollectionVersion(
+        long count,
+        LocalDateTime lastUpdatedAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.taskflow.api.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marcas de modificación de la representación de un proyecto: el proyecto y sus
+ * tareas activas, de las que salen los recuentos por estado.
+ */
+public record ProjectVersion(
+        LocalDateTime updatedAt,
+        long taskCount,
+        LocalDateTime tasksUpdatedAt
+) {
+}
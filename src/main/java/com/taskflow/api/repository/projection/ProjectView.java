@@ -0,0 +1,19 @@
+package com.taskflow.api.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de un proyecto con el recuento de sus tareas activas por estado,
+ * agregado en la misma consulta en lugar de cargar la colección {@code tasks}.
+ */
+public record ProjectView(
+        Long id,
+        String name,
+        String description,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long todoCount,
+        long inProgressCount,
+        long doneCount
+) {
+}
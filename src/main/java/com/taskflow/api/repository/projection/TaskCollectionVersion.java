@@ -0,0 +1,19 @@
+package com.taskflow.api.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Validador del listado de tareas: además de recuento y última modificación de las
+ * tareas, los nombres de usuario y proyecto que muestra cada fila. Renombrar mueve el
+ * máximo de {@code updatedAt} de usuarios o proyectos; borrarlos deja la referencia
+ * sin resolver (el join aplica el borrado lógico), lo que sube su recuento.
+ */
+public record TaskCollectionVersion(
+        long count,
+        LocalDateTime lastUpdatedAt,
+        LocalDateTime usersUpdatedAt,
+        LocalDateTime projectsUpdatedAt,
+        long unresolvedUsers,
+        long unresolvedProjects
+) {
+}
@@ -0,0 +1,17 @@
+package com.taskflow.api.repository.projection;
+
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Fila del recuento agrupado de tareas activas con el que se reconcilian los contadores.
+ */
+public record TaskCountRow(
+        Long projectId,
+        Long userId,
+        TaskStatus status,
+        LocalDate dueDate,
+        long count
+) {
+}
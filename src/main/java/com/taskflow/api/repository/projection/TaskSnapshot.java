@@ -0,0 +1,23 @@
+package com.taskflow.api.repository.projection;
+
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Columnas de una tarea que determinan en qué agregados cuenta (estado, vencimiento,
+ * usuario, proyecto), más la versión para actualizaciones condicionadas.
+ */
+public record TaskSnapshot(
+        Long id,
+        long version,
+        TaskStatus status,
+        LocalDate dueDate,
+        Long userId,
+        Long projectId
+) {
+
+    public TaskSnapshot withStatus(TaskStatus newStatus) {
+        return new TaskSnapshot(id, version + 1, newStatus, dueDate, userId, projectId);
+    }
+}
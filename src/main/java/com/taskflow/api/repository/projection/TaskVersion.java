@@ -0,0 +1,14 @@
+package com.taskflow.api.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marcas de modificación de todo lo que aparece en la representación de una tarea:
+ * la versión de la propia tarea y los nombres de su usuario y su proyecto.
+ */
+public record TaskVersion(
+        long version,
+        LocalDateTime userUpdatedAt,
+        LocalDateTime projectUpdatedAt
+) {
+}
@@ -0,0 +1,27 @@
+package com.taskflow.api.repository.projection;
+
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de lectura de una tarea con los nombres de usuario y proyecto
+ * ya resueltos por JOIN, para no inicializar las asociaciones LAZY.
+ */
+public record TaskView(
+        Long id,
+        String title,
+        String description,
+        TaskStatus status,
+        Priority priority,
+        LocalDate dueDate,
+        Long userId,
+        String userName,
+        Long projectId,
+        String projectName,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.taskflow.api.repository.projection;
+
+import com.taskflow.api.model.enums.Role;
+
+/**
+ * Lo que necesita el login: sin cargar la entidad {@code User} ni pasar por la
+ * caché de segundo nivel.
+ */
+public record UserCredentials(
+        Long id,
+        String email,
+        String password,
+        Role role,
+        boolean active
+) {
+}
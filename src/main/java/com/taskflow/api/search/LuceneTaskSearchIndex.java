@@ -0,0 +1,154 @@
+package com.taskflow.api.search;
+
+import com.taskflow.api.dto.request.TaskFilter;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.projection.TaskView;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Índice Lucene en memoria para H2 (desarrollo y tests). Se construye al arrancar a
+ * partir de las tareas activas y se mantiene con los {@link TaskChangedEvent}
+ * confirmados; los cambios se hacen visibles en la siguiente búsqueda.
+ */
+@Slf4j
+public class LuceneTaskSearchIndex implements TaskSearchIndex, Closeable {
+
+    private static final String ID = "id";
+    private static final String STATUS = "status";
+    private static final String PROJECT = "projectId";
+    private static final String TEXT = "text";
+
+    // Una coincidencia exacta del término puntúa por encima de una por prefijo
+    private static final float EXACT_TERM_BOOST = 2f;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public LuceneTaskSearchIndex(TaskRepository taskRepository, TransactionTemplate readOnlyTransaction) {
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = readOnlyTransaction;
+        try {
+            this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(new StandardAnalyzer()));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TaskView> tasks = taskRepository.streamAll(new TaskFilter(), 500)) {
+                tasks.forEach(this::index);
+            }
+        });
+        log.info("Índice de búsqueda de tareas construido: {} documentos", writer.getDocStats().numDocs);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Long id = event.taskId();
+        if (event.type() == TaskChangedEvent.Type.DELETED) {
+            delete(id);
+            return;
+        }
+        // El evento no lleva el texto: se lee la tarea ya confirmada
+        taskRepository.findViewById(id).ifPresentOrElse(this::index, () -> delete(id));
+    }
+
+    @Override
+    public List<Long> search(TaskSearchQuery query) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : query.terms()) {
+            Term text = new Term(TEXT, term);
+            builder.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(text), EXACT_TERM_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new PrefixQuery(text), BooleanClause.Occur.SHOULD)
+                    .build(), BooleanClause.Occur.MUST);
+        }
+        if (query.status() != null) {
+            builder.add(new TermQuery(new Term(STATUS, query.status().name())), BooleanClause.Occur.FILTER);
+        }
+        if (query.projectId() != null) {
+            builder.add(new TermQuery(new Term(PROJECT, query.projectId().toString())), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            searcherManager.maybeRefreshBlocking();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(builder.build(), query.offset() + query.limit()).scoreDocs;
+                List<Long> ids = new ArrayList<>(query.limit());
+                for (int i = query.offset(); i < hits.length; i++) {
+                    ids.add(Long.valueOf(searcher.storedFields().document(hits[i].doc).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void index(TaskView task) {
+        Document document = new Document();
+        document.add(new StringField(ID, task.id().toString(), Field.Store.YES));
+        document.add(new StringField(STATUS, task.status().name(), Field.Store.NO));
+        if (task.projectId() != null) {
+            document.add(new StringField(PROJECT, task.projectId().toString(), Field.Store.NO));
+        }
+        String text = task.description() != null ? task.title() + " " + task.description() : task.title();
+        document.add(new TextField(TEXT, text, Field.Store.NO));
+        try {
+            writer.updateDocument(new Term(ID, task.id().toString()), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void delete(Long id) {
+        try {
+            writer.deleteDocuments(new Term(ID, id.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+}
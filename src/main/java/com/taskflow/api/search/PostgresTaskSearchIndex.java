@@ -0,0 +1,56 @@
+package com.taskflow.api.search;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Búsqueda sobre la columna generada search_vector y su índice GIN parcial
+ * (db/migration/postgresql/V4__task_search_index.sql). PostgreSQL mantiene ambos en
+ * cada INSERT/UPDATE y las tareas eliminadas salen del índice al marcar deleted_at.
+ *
+ * <p>Solo se puntúan las primeras {@code rankWindow} coincidencias: un término muy
+ * frecuente puede coincidir con cientos de miles de filas y ordenarlas todas por
+ * ts_rank domina la latencia. Por encima de esa cifra el orden es el de relevancia
+ * dentro de esa ventana, no del total.
+ */
+public class PostgresTaskSearchIndex implements TaskSearchIndex {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int rankWindow;
+
+    public PostgresTaskSearchIndex(NamedParameterJdbcTemplate jdbcTemplate, int rankWindow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rankWindow = rankWindow;
+    }
+
+    @Override
+    public List<Long> search(TaskSearchQuery query) {
+        // Los términos solo contienen letras y dígitos: no pueden alterar la sintaxis de tsquery
+        String tsQuery = query.terms().stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+
+        StringBuilder sql = new StringBuilder("SELECT c.id FROM (SELECT t.id, t.search_vector FROM tasks t ")
+                .append("WHERE t.search_vector @@ to_tsquery('simple', :query) AND t.deleted_at IS NULL");
+        MapSqlParameterSource params = new MapSqlParameterSource("query", tsQuery);
+        if (query.status() != null) {
+            sql.append(" AND t.status = :status");
+            params.addValue("status", query.status().name());
+        }
+        if (query.projectId() != null) {
+            sql.append(" AND t.project_id = :projectId");
+            params.addValue("projectId", query.projectId());
+        }
+        sql.append(" LIMIT :window) c ")
+                .append("ORDER BY ts_rank(c.search_vector, to_tsquery('simple', :query)) DESC, c.id ")
+                .append("LIMIT :limit OFFSET :offset");
+        params.addValue("window", Math.max(rankWindow, query.offset() + query.limit()));
+        params.addValue("limit", query.limit());
+        params.addValue("offset", query.offset());
+
+        return jdbcTemplate.queryForList(sql.toString(), params, Long.class);
+    }
+}
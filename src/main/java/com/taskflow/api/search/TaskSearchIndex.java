@@ -0,0 +1,14 @@
+package com.taskflow.api.search;
+
+import java.util.List;
+
+/**
+ * Índice de texto sobre título y descripción de las tareas activas.
+ */
+public interface TaskSearchIndex {
+
+    /**
+     * Ids de las tareas que contienen todos los términos, de mayor a menor relevancia.
+     */
+    List<Long> search(TaskSearchQuery query);
+}
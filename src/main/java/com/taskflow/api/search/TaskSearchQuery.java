@@ -0,0 +1,18 @@
+package com.taskflow.api.search;
+
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.util.List;
+
+/**
+ * Búsqueda ya normalizada: términos en minúsculas formados solo por letras y dígitos,
+ * todos obligatorios y con coincidencia por prefijo.
+ */
+public record TaskSearchQuery(
+        List<String> terms,
+        TaskStatus status,
+        Long projectId,
+        int offset,
+        int limit
+) {
+}
@@ -0,0 +1,87 @@
+package com.taskflow.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.taskflow.api.event.JwtKeyRetiredEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * Caché del camino autenticado: tokens ya verificados, por digest SHA-256 y
+ * nunca por el token en claro. Una entrada no sobrevive a su {@code exp}; la
+ * revocación se comprueba aparte en cada petición ({@link TokenRevocationList}).
+ */
+@Component
+public class AuthenticationCache {
+
+    private final Cache<String, VerifiedToken> tokens;
+
+    public AuthenticationCache(
+            @Value("${auth.cache.tokens.max-size:10000}") long tokensMaxSize,
+            @Value("${auth.cache.tokens.ttl:15m}") Duration tokensTtl,
+            MeterRegistry meterRegistry
+    ) {
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(tokensMaxSize)
+                .expireAfter(new CappedByTokenExpiry(tokensTtl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "auth.tokens");
+    }
+
+    /**
+     * Devuelve el token verificado desde caché o lo verifica con
+     * {@code verifier}. Si la verificación lanza excepción no se cachea nada.
+     */
+    public VerifiedToken verifiedToken(String jwt, Function<String, VerifiedToken> verifier) {
+        return tokens.get(digest(jwt), key -> verifier.apply(jwt));
+    }
+
+    @EventListener
+    public void onJwtKeyRetired(JwtKeyRetiredEvent event) {
+        // El digest no identifica la clave: se descartan todos los tokens verificados
+        tokens.invalidateAll();
+    }
+
+    private static String digest(String jwt) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(jwt.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+
+    private record CappedByTokenExpiry(Duration ttl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            Duration untilExpiration = Duration.between(Instant.now(), token.expiresAt());
+            Duration effective = untilExpiration.compareTo(ttl) < 0 ? untilExpiration : ttl;
+            return Math.max(0, effective.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
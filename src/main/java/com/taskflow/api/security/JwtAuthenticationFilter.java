@@ -1,5 +1,6 @@
 package com.taskflow.api.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,6 +8,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -14,12 +16,18 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Autentica con los claims del access token, sin cargar el usuario: un usuario
+ * eliminado deja de tener acceso porque sus tokens quedan revocados
+ * ({@link TokenRevocationList}) y no puede obtener otros.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final AuthenticationCache authenticationCache;
+    private final TokenRevocationList revocationList;
 
     @Override
     protected void doFilterInternal(
@@ -36,32 +44,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String jwt = authHeader.substring(7);
-        String username = jwtService.extractUsername(jwt);
 
-        if (username != null &&
-                SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails =
-                    userDetailsService.loadUserByUsername(username);
+            VerifiedToken token;
+            try {
+                // Firma y expiración se verifican una vez por token
+                token = authenticationCache.verifiedToken(jwt, jwtService::verify);
+            } catch (JwtException ex) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            if (revocationList.isRevoked(token)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            UserDetails userDetails = User.withUsername(token.username())
+                    .password("")
+                    .authorities("ROLE_" + token.role())
+                    .build();
 
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities()
+                    );
 
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource()
-                                .buildDetails(request)
-                );
+            authToken.setDetails(
+                    new WebAuthenticationDetailsSource()
+                            .buildDetails(request)
+            );
 
-                SecurityContextHolder
-                        .getContext()
-                        .setAuthentication(authToken);
-            }
+            SecurityContextHolder
+                    .getContext()
+                    .setAuthentication(authToken);
         }
 
         filterChain.doFilter(request, response);
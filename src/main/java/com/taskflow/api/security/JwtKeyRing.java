@@ -0,0 +1,119 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.event.JwtKeyRetiredEvent;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Conjunto de claves HMAC activas, indexadas por {@code kid}. Las claves se
+ * decodifican una sola vez y el conjunto se sustituye de forma atómica al
+ * rotar o retirar una clave, sin reiniciar la aplicación.
+ */
+@Component
+public class JwtKeyRing {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot;
+
+    public JwtKeyRing(JwtProperties properties, ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        this.snapshot = fromProperties(properties);
+    }
+
+    public String activeKeyId() {
+        return snapshot.activeKeyId();
+    }
+
+    public SecretKey activeKey() {
+        Snapshot current = snapshot;
+        return current.keys().get(current.activeKeyId());
+    }
+
+    public Set<String> keyIds() {
+        return snapshot.keys().keySet();
+    }
+
+    /**
+     * Clave para verificar un token. Los tokens emitidos antes de introducir
+     * el {@code kid} no lo llevan: se verifican con la clave por defecto.
+     */
+    public SecretKey verificationKey(String keyId) {
+        Snapshot current = snapshot;
+        String effectiveId = keyId != null ? keyId
+                : current.keys().containsKey(JwtProperties.DEFAULT_KEY_ID)
+                        ? JwtProperties.DEFAULT_KEY_ID
+                        : current.activeKeyId();
+        SecretKey key = current.keys().get(effectiveId);
+        if (key == null) {
+            throw new JwtException("Clave de firma desconocida: " + keyId);
+        }
+        return key;
+    }
+
+    /**
+     * Añade (o reemplaza) una clave y la convierte en la activa. Las claves
+     * anteriores siguen verificando hasta que se retiren.
+     */
+    public synchronized void rotate(String keyId, String base64Secret) {
+        Map<String, SecretKey> keys = new LinkedHashMap<>(snapshot.keys());
+        keys.put(keyId, decode(keyId, base64Secret));
+        snapshot = new Snapshot(Map.copyOf(keys), keyId);
+    }
+
+    public synchronized void retire(String keyId) {
+        Snapshot current = snapshot;
+        if (keyId.equals(current.activeKeyId())) {
+            throw new IllegalArgumentException("No se puede retirar la clave activa: " + keyId);
+        }
+        if (!current.keys().containsKey(keyId)) {
+            return;
+        }
+        Map<String, SecretKey> keys = new LinkedHashMap<>(current.keys());
+        keys.remove(keyId);
+        snapshot = new Snapshot(Map.copyOf(keys), current.activeKeyId());
+        eventPublisher.publishEvent(new JwtKeyRetiredEvent(keyId));
+    }
+
+    private static Snapshot fromProperties(JwtProperties properties) {
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        if (properties.keys() != null) {
+            properties.keys().forEach((keyId, secret) -> keys.put(keyId, decode(keyId, secret)));
+        }
+        if (keys.isEmpty() && StringUtils.hasText(properties.secret())) {
+            keys.put(JwtProperties.DEFAULT_KEY_ID, decode(JwtProperties.DEFAULT_KEY_ID, properties.secret()));
+        }
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("Debe configurarse jwt.secret o al menos una clave en jwt.keys");
+        }
+
+        String activeKeyId = StringUtils.hasText(properties.activeKeyId())
+                ? properties.activeKeyId()
+                : keys.keySet().iterator().next();
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalStateException("jwt.active-key-id no corresponde a ninguna clave: " + activeKeyId);
+        }
+        return new Snapshot(Map.copyOf(keys), activeKeyId);
+    }
+
+    private static SecretKey decode(String keyId, String base64Secret) {
+        try {
+            return Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException(
+                    "La clave '" + keyId + "' debe ser base64 de al menos 256 bits", ex);
+        }
+    }
+
+    private record Snapshot(Map<String, SecretKey> keys, String activeKeyId) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskflow.api.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Rotación de claves JWT en caliente: {@code /actuator/jwtkeys}.
+ * Nunca expone el material de las claves, solo sus identificadores.
+ */
+@Component
+@Endpoint(id = "jwtkeys")
+@RequiredArgsConstructor
+public class JwtKeysEndpoint {
+
+    private final JwtKeyRing keyRing;
+
+    @ReadOperation
+    public Map<String, Object> keys() {
+        return Map.of(
+                "activeKeyId", keyRing.activeKeyId(),
+                "keyIds", keyRing.keyIds()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, Object> rotate(String keyId, String secret) {
+        keyRing.rotate(keyId, secret);
+        return keys();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> retire(@Selector String keyId) {
+        keyRing.retire(keyId);
+        return keys();
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskflow.api.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Configuración de firma de JWT.
+ *
+ * <p>{@code keys} asocia cada {@code kid} con un secreto en base64 (mínimo 256
+ * bits) y {@code activeKeyId} indica con cuál se firman los tokens nuevos.
+ * Si no se definen claves se usa {@code secret} con el kid {@value #DEFAULT_KEY_ID}.
+ *
+ * <p>{@code expiration} es la vida del access token y {@code refreshExpiration} la de
+ * cada refresh token, ambas en milisegundos.
+ */
+@ConfigurationProperties(prefix = "jwt")
+public record JwtProperties(
+        String secret,
+        @DefaultValue("900000") long expiration,
+        @DefaultValue("2592000000") long refreshExpiration,
+        String activeKeyId,
+        Map<String, String> keys
+) {
+
+    public static final String DEFAULT_KEY_ID = "default";
+}
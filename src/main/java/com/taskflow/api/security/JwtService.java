@@ -1,59 +1,83 @@
 package com.taskflow.api.security;
 
+import com.taskflow.api.model.User;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.Date;
-import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
-
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+
+    private final JwtKeyRing keyRing;
+    private final long jwtExpiration;
+
+    // JwtParser es inmutable y thread-safe: se construye una sola vez
+    private final JwtParser parser;
+
+    public JwtService(JwtKeyRing keyRing, JwtProperties properties) {
+        this.keyRing = keyRing;
+        this.jwtExpiration = properties.expiration();
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keyRing.verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
 
     /* ========================
        GENERAR TOKEN
        ======================== */
 
-    public String generateToken(UserDetails userDetails) {
-        return generateToken(Map.of(), userDetails);
-    }
-
-    public String generateToken(
-            Map<String, Object> extraClaims,
-            UserDetails userDetails
-    ) {
+    /**
+     * Access token de vida corta con el id y el rol del usuario, para que el filtro
+     * no tenga que cargarlo, y un {@code jti} único que permite revocarlo.
+     */
+    public String generateToken(User user) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
-                .setClaims(extraClaims)
-                .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .header().keyId(keyRing.activeKeyId()).and()
+                .id(UUID.randomUUID().toString())
+                .subject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole().name())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + jwtExpiration))
+                .signWith(keyRing.activeKey(), Jwts.SIG.HS256)
                 .compact();
     }
 
+    public long getExpiration() {
+        return jwtExpiration;
+    }
+
     /* ========================
        VALIDAR TOKEN
        ======================== */
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername())
-                && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Verifica firma y expiración con un único parseo del token.
+     * Lanza {@link JwtException} si el token no es válido o le faltan los claims
+     * de usuario (tokens emitidos antes de incluirlos).
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = extractAllClaims(token);
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (claims.getId() == null || userId == null || role == null || claims.getIssuedAt() == null) {
+            throw new MalformedJwtException("Token sin jti, uid, role o iat");
+        }
+        return new VerifiedToken(claims.getSubject(), userId, role, claims.getId(),
+                claims.getIssuedAt().toInstant(), claims.getExpiration().toInstant());
     }
 
     /* ========================
@@ -64,10 +88,6 @@ public class JwtService {
         return extractClaim(token, Claims::getSubject);
     }
 
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
     public <T> T extractClaim(
             String token,
             Function<Claims, T> resolver
@@ -77,19 +97,6 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    /* ========================
-       KEY
-       ======================== */
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,106 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Genera los hashes BCrypt de las altas de usuario en un pool propio de hilos de
+ * plataforma, uno por CPU por defecto. Quien llama espera el resultado, pero fuera
+ * de cualquier transacción: ninguna conexión JDBC queda retenida durante el
+ * cálculo, y una ráfaga de altas no compite por CPU con el resto de peticiones más
+ * allá de {@code threads} hilos.
+ *
+ * <p>La cola está acotada por {@code queue-capacity}; llena, se responde 429 en
+ * lugar de acumular trabajo. Su profundidad se exporta como
+ * {@code executor.queued{name=password.hashing}}, y la espera en cola y el tiempo
+ * de cálculo como {@code executor.idle} y {@code executor}.
+ */
+@Component
+public class PasswordHasher implements AutoCloseable {
+
+    private static final String BUSY = "Servicio de registro saturado, inténtelo más tarde";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            @Value("${users.password-hashing.threads:0}") int threads,
+            @Value("${users.password-hashing.queue-capacity:2000}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), task -> {
+                    Thread thread = new Thread(task, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password.hashing");
+    }
+
+    public String hash(String rawPassword) {
+        return join(submit(rawPassword));
+    }
+
+    /**
+     * Todos los hashes en paralelo, en el mismo orden que las contraseñas. Si la cola
+     * no admite el lote completo se cancela lo ya encolado y se responde 429.
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                hashes.add(submit(rawPassword));
+            }
+        } catch (TooManyRequestsException ex) {
+            hashes.forEach(hash -> hash.cancel(false));
+            throw ex;
+        }
+        return hashes.stream().map(PasswordHasher::join).toList();
+    }
+
+    private CompletableFuture<String> submit(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+        } catch (RejectedExecutionException ex) {
+            throw new TooManyRequestsException(BUSY, 1);
+        }
+    }
+
+    private static String join(CompletableFuture<String> hash) {
+        try {
+            return hash.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        } catch (CancellationException ex) {
+            throw new TooManyRequestsException(BUSY, 1);
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+}
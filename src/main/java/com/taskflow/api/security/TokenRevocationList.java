@@ -0,0 +1,158 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.event.UserDeletedEvent;
+import com.taskflow.api.model.TokenRevocation;
+import com.taskflow.api.repository.TokenRevocationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access tokens revocados, en memoria, para que el filtro JWT los rechace sin
+ * consultar la base de datos.
+ *
+ * <p>Los {@code jti} se agrupan por el minuto en que expira su token: la consulta
+ * va directa al grupo de su {@code exp} y los grupos pasados se descartan enteros.
+ * Para revocar todos los tokens de un usuario basta una marca por usuario: se
+ * rechaza cualquier token suyo emitido hasta ese instante. Ambas desaparecen cuando
+ * ya no queda ningún token afectado vigente, así que el tamaño depende de las
+ * revocaciones de la última vida de un access token, no del número de usuarios.
+ *
+ * <p>Cada nodo aplica al momento sus propias revocaciones y recoge las del resto
+ * desde {@code token_revocations} cada {@code jwt.revocation.sync-interval}.
+ */
+@Component
+@Slf4j
+public class TokenRevocationList implements SmartInitializingSingleton {
+
+    // Cada sincronización vuelve a leer el último minuto: cubre transacciones que
+    // confirman tarde y pequeñas diferencias de reloj entre nodos
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final TokenRevocationRepository revocationRepository;
+    private final Duration accessTokenLifetime;
+
+    private final Map<Long, Set<String>> jtiByExpiryMinute = new ConcurrentHashMap<>();
+    private final Map<Long, Watermark> watermarks = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastSync;
+
+    public TokenRevocationList(
+            TokenRevocationRepository revocationRepository,
+            JwtProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.revocationRepository = revocationRepository;
+        this.accessTokenLifetime = Duration.ofMillis(properties.expiration());
+
+        Gauge.builder("auth.revocations", this, TokenRevocationList::revokedTokens)
+                .tag("type", "jti")
+                .description("Access tokens revocados individualmente y aún vigentes")
+                .register(meterRegistry);
+        Gauge.builder("auth.revocations", watermarks, Map::size)
+                .tag("type", "user")
+                .description("Usuarios con todos sus access tokens revocados")
+                .register(meterRegistry);
+    }
+
+    /**
+     * O(1): una búsqueda en el grupo del minuto de expiración y otra en las marcas
+     * por usuario.
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        Set<String> bucket = jtiByExpiryMinute.get(minute(token.expiresAt()));
+        if (bucket != null && bucket.contains(token.jti())) {
+            return true;
+        }
+        Watermark watermark = watermarks.get(token.userId());
+        // iat tiene precisión de segundos: un token del mismo segundo también se rechaza
+        return watermark != null && !token.issuedAt().isAfter(watermark.revokedBefore());
+    }
+
+    public void revoke(String jti, Instant expiresAt) {
+        jtiByExpiryMinute.computeIfAbsent(minute(expiresAt), minute -> ConcurrentHashMap.newKeySet()).add(jti);
+    }
+
+    public void revokeUser(Long userId, Instant revokedBefore, Instant expiresAt) {
+        watermarks.merge(userId, new Watermark(revokedBefore, expiresAt), Watermark::latest);
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        // La fila en token_revocations se escribe en la transacción del borrado
+        // (AuthTokenServiceImpl); aquí solo se aplica en este nodo sin esperar a sync()
+        Instant now = Instant.now();
+        revokeUser(event.userId(), now, now.plus(accessTokenLifetime));
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // Antes de que el servidor acepte peticiones
+        sync();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:PT5S}",
+            initialDelayString = "${jwt.revocation.sync-interval:PT5S}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSync != null ? lastSync.minus(SYNC_OVERLAP) : now.minus(accessTokenLifetime).minus(SYNC_OVERLAP);
+        List<TokenRevocation> revocations = revocationRepository.findActiveSince(since, now);
+        for (TokenRevocation revocation : revocations) {
+            Instant expiresAt = toInstant(revocation.getExpiresAt());
+            if (revocation.getJti() != null) {
+                revoke(revocation.getJti(), expiresAt);
+            }
+            if (revocation.getUserId() != null) {
+                revokeUser(revocation.getUserId(), toInstant(revocation.getRevokedAt()), expiresAt);
+            }
+        }
+        lastSync = now;
+        discardExpired(Instant.now());
+        log.debug("Revocaciones sincronizadas: {} leídas, {} jti y {} usuarios en memoria",
+                revocations.size(), revokedTokens(), watermarks.size());
+    }
+
+    private void discardExpired(Instant now) {
+        long currentMinute = minute(now);
+        jtiByExpiryMinute.keySet().removeIf(minute -> minute < currentMinute);
+        watermarks.values().removeIf(watermark -> !watermark.expiresAt().isAfter(now));
+    }
+
+    private long revokedTokens() {
+        long count = 0;
+        for (Set<String> bucket : jtiByExpiryMinute.values()) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    private static long minute(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), 60);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private record Watermark(Instant revokedBefore, Instant expiresAt) {
+
+        static Watermark latest(Watermark a, Watermark b) {
+            return new Watermark(
+                    a.revokedBefore.isAfter(b.revokedBefore) ? a.revokedBefore : b.revokedBefore,
+                    a.expiresAt.isAfter(b.expiresAt) ? a.expiresAt : b.expiresAt);
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package com.taskflow.api.security;
 
-import com.taskflow.api.model.User;
+import com.taskflow.api.mapper.UserMapper;
 import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.repository.projection.UserCredentials;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
+/**
+ * Solo para el login: lee las credenciales con una proyección (email, hash, rol y
+ * estado) sobre {@code uk_users_email}. Las peticiones con JWT no pasan por aquí.
+ */
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -19,14 +21,15 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     public UserDetails loadUserByUsername(String email)
             throws UsernameNotFoundException {
 
-        User user = userRepository.findByEmail(email)
+        UserCredentials credentials = userRepository.findCredentialsByEmail(UserMapper.normalizeEmail(email))
                 .orElseThrow(() ->
                         new UsernameNotFoundException("User not found"));
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
-        );
+        // Un usuario inactivo se rechaza antes de comprobar la contraseña
+        return User.withUsername(credentials.email())
+                .password(credentials.password())
+                .roles(credentials.role().name())
+                .disabled(!credentials.active())
+                .build();
     }
 }
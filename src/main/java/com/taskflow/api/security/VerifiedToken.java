@@ -0,0 +1,16 @@
+package com.taskflow.api.security;
+
+import java.time.Instant;
+
+/**
+ * Resultado de verificar la firma y la expiración de un JWT, con los claims que
+ * necesita el filtro para autenticar sin consultar la base de datos.
+ */
+public record VerifiedToken(
+        String username,
+        Long userId,
+        String role,
+        String jti,
+        Instant issuedAt,
+        Instant expiresAt) {
+}
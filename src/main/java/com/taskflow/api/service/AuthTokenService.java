@@ -0,0 +1,21 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.response.TokenResponse;
+
+public interface AuthTokenService {
+
+    /**
+     * Access token y refresh token para un usuario ya autenticado.
+     */
+    TokenResponse issue(String email);
+
+    /**
+     * Consume el refresh token y emite un par nuevo de la misma familia.
+     */
+    TokenResponse refresh(String refreshToken);
+
+    /**
+     * Revoca la familia del refresh token y, si se indica, el access token.
+     */
+    void logout(String refreshToken, String accessToken);
+}
@@ -12,4 +12,8 @@ public interface ProjectService {
     List<ProjectResponse> getAllProjects();
 
     ProjectResponse getProjectById(Long id);
+
+    String getProjectVersion(Long id);
+
+    String getProjectsVersion();
 }
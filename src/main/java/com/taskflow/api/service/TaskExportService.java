@@ -0,0 +1,16 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.request.TaskFilter;
+import com.taskflow.api.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+
+    /**
+     * Escribe en {@code out} todas las tareas que cumplen el filtro, fila a fila.
+     * Devuelve el número de tareas exportadas.
+     */
+    long exportTasks(TaskFilter filter, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,15 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.response.TaskResponse;
+import com.taskflow.api.model.enums.TaskStatus;
+
+import java.util.List;
+
+public interface TaskSearchService {
+
+    /**
+     * Tareas cuyo título o descripción contienen todas las palabras de {@code q} (por
+     * prefijo), ordenadas por relevancia.
+     */
+    List<TaskResponse> searchTasks(String q, TaskStatus status, Long projectId, int page, int size);
+}
@@ -1,6 +1,11 @@
 package com.taskflow.api.service;
 
 import com.taskflow.api.dto.request.CreateTaskRequest;
+import com.taskflow.api.dto.request.TaskFilter;
+import com.taskflow.api.dto.request.TaskSort;
+import com.taskflow.api.dto.request.UpdateTaskRequest;
+import com.taskflow.api.dto.response.BatchResponse;
+import com.taskflow.api.dto.response.CursorPage;
 import com.taskflow.api.dto.response.TaskResponse;
 
 import java.util.List;
@@ -9,7 +14,21 @@ public interface TaskService {
 
     TaskResponse createTask(CreateTaskRequest request);
 
-    List<TaskResponse> getAllTasks();
+    BatchResponse createTasks(List<CreateTaskRequest> requests);
+
+    CursorPage<TaskResponse> getAllTasks(TaskFilter filter, TaskSort sort, String cursor, int size);
 
     TaskResponse getTaskById(Long id);
+
+    /**
+     * Aplica los campos no nulos de {@code request}. Con {@code expectedVersion} (el ETag
+     * de la tarea sin comillas) solo se actualiza si la tarea sigue en esa versión.
+     */
+    void updateTask(Long id, UpdateTaskRequest request, String expectedVersion);
+
+    void deleteTask(Long id);
+
+    String getTaskVersion(Long id);
+
+    String getTasksVersion(TaskFilter filter, TaskSort sort, String cursor, int size);
 }
@@ -0,0 +1,14 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.response.TaskStatsResponse;
+
+public interface TaskStatsService {
+
+    TaskStatsResponse getStats();
+
+    /**
+     * Recalcula los contadores con un recuento agrupado en SQL y devuelve la
+     * desviación encontrada respecto a los mantenidos en memoria.
+     */
+    long reconcile();
+}
@@ -0,0 +1,13 @@
+package com.taskflow.api.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface TaskStreamService {
+
+    /**
+     * Abre una suscripción a los cambios de tareas, opcionalmente limitada a un proyecto
+     * y/o usuario asignado. Con {@code lastEventId} se reenvían primero los eventos
+     * posteriores que sigan en memoria, o un evento {@code reset} si ya no están.
+     */
+    SseEmitter subscribe(Long projectId, Long userId, String lastEventId);
+}
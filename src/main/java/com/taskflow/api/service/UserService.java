@@ -1,6 +1,7 @@
 package com.taskflow.api.service;
 
 import com.taskflow.api.dto.request.CreateUserRequest;
+import com.taskflow.api.dto.response.BatchResponse;
 import com.taskflow.api.dto.response.UserResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,9 +12,15 @@ public interface UserService {
 
     UserResponse createUser(CreateUserRequest request);
 
+    BatchResponse createUsers(List<CreateUserRequest> requests);
+
     Page<UserResponse> getAllUsers(Pageable pageable);
 
     UserResponse getUserById(Long id);
 
+    String getUserVersion(Long id);
+
+    String getUsersVersion(Pageable pageable);
+
     void deleteUser(Long id);
 }
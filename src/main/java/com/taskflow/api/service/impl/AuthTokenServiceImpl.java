@@ -0,0 +1,190 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.dto.response.TokenResponse;
+import com.taskflow.api.event.UserDeletedEvent;
+import com.taskflow.api.mapper.UserMapper;
+import com.taskflow.api.model.RefreshToken;
+import com.taskflow.api.model.TokenRevocation;
+import com.taskflow.api.model.User;
+import com.taskflow.api.repository.RefreshTokenRepository;
+import com.taskflow.api.repository.TokenRevocationRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.security.JwtProperties;
+import com.taskflow.api.security.JwtService;
+import com.taskflow.api.security.TokenRevocationList;
+import com.taskflow.api.security.VerifiedToken;
+import com.taskflow.api.service.AuthTokenService;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Access tokens de vida corta y refresh tokens rotatorios. Cada refresh token
+ * sirve una sola vez: si se presenta uno ya usado (robado y usado por otro, o
+ * repetido) se borra toda su familia y el titular tiene que volver a hacer login.
+ */
+@Service
+@Timed(value = "service.method", histogram = true)
+@Slf4j
+public class AuthTokenServiceImpl implements AuthTokenService {
+
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationRepository revocationRepository;
+    private final TokenRevocationList revocationList;
+    private final JwtService jwtService;
+    private final Duration accessTokenLifetime;
+    private final Duration refreshTokenLifetime;
+
+    public AuthTokenServiceImpl(
+            UserRepository userRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            TokenRevocationRepository revocationRepository,
+            TokenRevocationList revocationList,
+            JwtService jwtService,
+            JwtProperties properties
+    ) {
+        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revocationRepository = revocationRepository;
+        this.revocationList = revocationList;
+        this.jwtService = jwtService;
+        this.accessTokenLifetime = Duration.ofMillis(properties.expiration());
+        this.refreshTokenLifetime = Duration.ofMillis(properties.refreshExpiration());
+    }
+
+    @Override
+    @Transactional
+    public TokenResponse issue(String email) {
+        User user = userRepository.findByEmail(UserMapper.normalizeEmail(email))
+                .orElseThrow(() -> new BadCredentialsException("Usuario no encontrado"));
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    // El BadCredentialsException por reutilización no deshace el borrado de la familia
+    @Override
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public TokenResponse refresh(String refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new BadCredentialsException("Refresh token desconocido"));
+        if (current.isExpired(now)) {
+            throw new BadCredentialsException("Refresh token expirado");
+        }
+        if (refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.deleteByFamily(current.getFamilyId());
+            log.warn("Refresh token reutilizado por el usuario {}: revocados {} tokens de su familia",
+                    current.getUserId(), revoked);
+            throw new BadCredentialsException("Refresh token ya utilizado");
+        }
+
+        User user = userRepository.findActiveByIdUncached(current.getUserId())
+                .filter(User::isActive)
+                .orElseThrow(() -> new BadCredentialsException("Usuario no encontrado"));
+        return issue(user, current.getFamilyId());
+    }
+
+    @Override
+    @Transactional
+    public void logout(String refreshToken, String accessToken) {
+        refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.deleteByFamily(token.getFamilyId()));
+
+        if (accessToken == null) {
+            return;
+        }
+        VerifiedToken token;
+        try {
+            token = jwtService.verify(accessToken);
+        } catch (JwtException ex) {
+            // Caducado o inválido: ya no da acceso, no hay nada que revocar
+            return;
+        }
+        revocationRepository.save(TokenRevocation.builder()
+                .jti(token.jti())
+                .revokedAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.ofInstant(token.expiresAt(), ZoneId.systemDefault()))
+                .build());
+        revocationList.revoke(token.jti(), token.expiresAt());
+    }
+
+    /**
+     * Los access tokens del usuario se revocan con una marca que el resto de nodos
+     * recogen de {@code token_revocations}; sus refresh tokens se borran en la misma
+     * transacción que el borrado lógico.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserDeleted(UserDeletedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        revocationRepository.save(TokenRevocation.builder()
+                .userId(event.userId())
+                .revokedAt(now)
+                .expiresAt(now.plus(accessTokenLifetime))
+                .build());
+        int deleted = refreshTokenRepository.deleteByUser(event.userId());
+        log.info("Tokens revocados para el usuario eliminado {}: {} refresh tokens borrados", event.userId(), deleted);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:PT10M}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int refreshTokens = refreshTokenRepository.deleteExpired(now);
+        int revocations = revocationRepository.deleteExpired(now);
+        log.debug("Purgados {} refresh tokens y {} revocaciones expirados", refreshTokens, revocations);
+    }
+
+    private TokenResponse issue(User user, String familyId) {
+        String refreshToken = newRefreshToken();
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(user.getId())
+                .tokenHash(hash(refreshToken))
+                .familyId(familyId)
+                .createdAt(now)
+                .expiresAt(now.plus(refreshTokenLifetime))
+                .build());
+
+        return TokenResponse.builder()
+                .accessToken(jwtService.generateToken(user))
+                .refreshToken(refreshToken)
+                .expiresIn(accessTokenLifetime.toSeconds())
+                .build();
+    }
+
+    private static String newRefreshToken() {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // Aleatorio de 256 bits: basta un hash rápido, no hace falta BCrypt
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+}
@@ -1,43 +1,82 @@
 package com.taskflow.api.service.impl;
 
 import com.taskflow.api.dto.request.CreateProjectRequest;
+import com.taskflow.api.dto.request.TaskFilter;
 import com.taskflow.api.dto.response.ProjectResponse;
+import com.taskflow.api.event.ProjectCreatedEvent;
+import com.taskflow.api.exception.ResourceNotFoundException;
 import com.taskflow.api.mapper.ProjectMapper;
 import com.taskflow.api.model.Project;
 import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.projection.CollectionVersion;
+import com.taskflow.api.repository.projection.ProjectVersion;
+import com.taskflow.api.repository.projection.TaskCollectionVersion;
 import com.taskflow.api.service.ProjectService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProjectServiceImpl(ProjectRepository projectRepository) {
+    public ProjectServiceImpl(ProjectRepository projectRepository, TaskRepository taskRepository,
+                              ApplicationEventPublisher eventPublisher) {
         this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public ProjectResponse createProject(CreateProjectRequest request) {
         Project project = ProjectMapper.toEntity(request);
         Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectCreatedEvent(
+                savedProject.getId(), savedProject.getName(), savedProject.getDescription()));
         return ProjectMapper.toResponse(savedProject);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectResponse> getAllProjects() {
-        return projectRepository.findAll()
+        return projectRepository.findAllViews()
                 .stream()
                 .map(ProjectMapper::toResponse)
                 .toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProjectResponse getProjectById(Long id) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
-        return ProjectMapper.toResponse(project);
+        return projectRepository.findViewById(id)
+                .map(ProjectMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Proyecto", id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getProjectVersion(Long id) {
+        ProjectVersion version = projectRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Proyecto", id));
+
+        return Versions.of(version.updatedAt(), version.taskCount(), version.tasksUpdatedAt());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getProjectsVersion() {
+        // El listado incluye los recuentos por estado: depende también de todas las tareas
+        CollectionVersion projects = projectRepository.findCollectionVersion();
+        TaskCollectionVersion tasks = taskRepository.findVersion(TaskFilter.builder().build());
+        return Versions.of(projects.count(), projects.lastUpdatedAt(), tasks.count(), tasks.lastUpdatedAt());
     }
 }
@@ -0,0 +1,105 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.repository.projection.TaskSnapshot;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Conexión abierta a {@code GET /api/tasks/stream}: filtro, cola de eventos pendientes
+ * de enviar con capacidad limitada y el indicador de que hay un envío en curso, para
+ * que nunca haya más de un hilo escribiendo en la misma respuesta. Recuerda la
+ * secuencia del último evento que recibió en el reenvío inicial, para no recibirlo
+ * otra vez en vivo.
+ */
+final class StreamSubscriber {
+
+    private final SseEmitter emitter;
+    private final Long projectId;
+    private final Long userId;
+    private final int capacity;
+    private final Queue<StreamedEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile long replayedUpTo;
+    private volatile boolean closed;
+
+    StreamSubscriber(SseEmitter emitter, Long projectId, Long userId, int capacity) {
+        this.emitter = emitter;
+        this.projectId = projectId;
+        this.userId = userId;
+        this.capacity = capacity;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    void replayedUpTo(long sequence) {
+        this.replayedUpTo = sequence;
+    }
+
+    /**
+     * Un cambio interesa si no llegó ya en el reenvío inicial y la tarea cumple el
+     * filtro antes o después: quien sigue un proyecto ve también la tarea que sale de él.
+     */
+    boolean accepts(StreamedEvent event) {
+        return event.sequence() > replayedUpTo && (matches(event.before()) || matches(event.after()));
+    }
+
+    private boolean matches(TaskSnapshot task) {
+        return task != null
+                && (projectId == null || projectId.equals(task.projectId()))
+                && (userId == null || userId.equals(task.userId()));
+    }
+
+    /** Encola el evento; {@code false} si la cola está llena. */
+    boolean offer(StreamedEvent event) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        pending.add(event);
+        return true;
+    }
+
+    /** Encola un latido solo si no hay nada pendiente. */
+    boolean offerIfIdle(StreamedEvent event) {
+        if (!size.compareAndSet(0, 1)) {
+            return false;
+        }
+        pending.add(event);
+        return true;
+    }
+
+    StreamedEvent poll() {
+        StreamedEvent event = pending.poll();
+        if (event != null) {
+            size.decrementAndGet();
+        }
+        return event;
+    }
+
+    boolean hasPending() {
+        return size.get() > 0;
+    }
+
+    boolean startDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void endDrain() {
+        draining.set(false);
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+}
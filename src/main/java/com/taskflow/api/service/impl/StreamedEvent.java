@@ -0,0 +1,25 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.repository.projection.TaskSnapshot;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Evento del stream de tareas ya serializado: el JSON se genera una vez por cambio,
+ * no una vez por suscriptor. Sin {@code id} es un latido (comentario SSE). Los de
+ * control y los latidos tienen secuencia 0: no están en el buffer.
+ */
+record StreamedEvent(long sequence, String id, String name, TaskSnapshot before, TaskSnapshot after, String data) {
+
+    static final StreamedEvent HEARTBEAT = new StreamedEvent(0, null, null, null, null, null);
+
+    static StreamedEvent control(String id, String name) {
+        return new StreamedEvent(0, id, name, null, null, "");
+    }
+
+    SseEmitter.SseEventBuilder toSse() {
+        if (id == null) {
+            return SseEmitter.event().comment("");
+        }
+        return SseEmitter.event().id(id).name(name).data(data);
+    }
+}
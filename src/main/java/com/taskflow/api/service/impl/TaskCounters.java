@@ -0,0 +1,147 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.dto.response.TaskCounts;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.projection.TaskSnapshot;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recuentos de tareas activas en memoria: global, por proyecto y por usuario. Cada
+ * ámbito guarda el número de tareas por estado y, para las no completadas, cuántas
+ * vencen cada día; las vencidas se obtienen sumando los días anteriores a hoy, así
+ * que una tarea pasa a vencida al cambiar la fecha sin necesidad de ningún evento.
+ */
+final class TaskCounters {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final Scope total = new Scope();
+    private final Map<Long, Scope> projects = new ConcurrentHashMap<>();
+    private final Map<Long, Scope> users = new ConcurrentHashMap<>();
+
+    void add(TaskSnapshot task, long delta) {
+        add(task.projectId(), task.userId(), task.status(), task.dueDate(), delta);
+    }
+
+    void add(Long projectId, Long userId, TaskStatus status, LocalDate dueDate, long delta) {
+        total.add(status, dueDate, delta);
+        if (projectId != null) {
+            projects.computeIfAbsent(projectId, id -> new Scope()).add(status, dueDate, delta);
+        }
+        if (userId != null) {
+            users.computeIfAbsent(userId, id -> new Scope()).add(status, dueDate, delta);
+        }
+    }
+
+    TaskCounts total(LocalDate today) {
+        return total.toCounts(today);
+    }
+
+    Map<Long, TaskCounts> byProject(LocalDate today) {
+        return toCounts(projects, today);
+    }
+
+    Map<Long, TaskCounts> byUser(LocalDate today) {
+        return toCounts(users, today);
+    }
+
+    /**
+     * Suma de las diferencias absolutas, recuento a recuento, entre dos estados de los
+     * contadores (0 si coinciden).
+     */
+    static long drift(TaskCounters a, TaskCounters b, LocalDate today) {
+        return Scope.drift(a.total, b.total, today)
+                + drift(a.projects, b.projects, today)
+                + drift(a.users, b.users, today);
+    }
+
+    private static long drift(Map<Long, Scope> a, Map<Long, Scope> b, LocalDate today) {
+        Set<Long> ids = new HashSet<>(a.keySet());
+        ids.addAll(b.keySet());
+        long drift = 0;
+        for (Long id : ids) {
+            drift += Scope.drift(a.getOrDefault(id, Scope.EMPTY), b.getOrDefault(id, Scope.EMPTY), today);
+        }
+        return drift;
+    }
+
+    private static Map<Long, TaskCounts> toCounts(Map<Long, Scope> scopes, LocalDate today) {
+        Map<Long, TaskCounts> counts = new LinkedHashMap<>();
+        scopes.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .filter(entry -> entry.getValue().total() > 0)
+                .forEach(entry -> counts.put(entry.getKey(), entry.getValue().toCounts(today)));
+        return counts;
+    }
+
+    private static final class Scope {
+
+        static final Scope EMPTY = new Scope();
+
+        private final LongAdder[] byStatus = new LongAdder[STATUSES.length];
+        private final ConcurrentNavigableMap<LocalDate, LongAdder> openByDueDate = new ConcurrentSkipListMap<>();
+
+        Scope() {
+            for (int i = 0; i < byStatus.length; i++) {
+                byStatus[i] = new LongAdder();
+            }
+        }
+
+        void add(TaskStatus status, LocalDate dueDate, long delta) {
+            byStatus[status.ordinal()].add(delta);
+            if (status != TaskStatus.DONE && dueDate != null) {
+                openByDueDate.computeIfAbsent(dueDate, date -> new LongAdder()).add(delta);
+            }
+        }
+
+        long count(TaskStatus status) {
+            return byStatus[status.ordinal()].sum();
+        }
+
+        long total() {
+            long total = 0;
+            for (LongAdder count : byStatus) {
+                total += count.sum();
+            }
+            return total;
+        }
+
+        long overdue(LocalDate today) {
+            long overdue = 0;
+            for (LongAdder count : openByDueDate.headMap(today).values()) {
+                overdue += count.sum();
+            }
+            return overdue;
+        }
+
+        TaskCounts toCounts(LocalDate today) {
+            Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : STATUSES) {
+                counts.put(status, count(status));
+            }
+            return TaskCounts.builder()
+                    .total(total())
+                    .byStatus(counts)
+                    .overdue(overdue(today))
+                    .build();
+        }
+
+        static long drift(Scope a, Scope b, LocalDate today) {
+            long drift = Math.abs(a.overdue(today) - b.overdue(today));
+            for (TaskStatus status : STATUSES) {
+                drift += Math.abs(a.count(status) - b.count(status));
+            }
+            return drift;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.repository.projection.TaskSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Últimos eventos del stream de tareas en un buffer circular de tamaño fijo, para
+ * reanudar suscripciones con {@code Last-Event-ID}. Los ids son {@code <época>-<secuencia>}:
+ * la época cambia en cada arranque, así que un id de otro nodo o de antes de un reinicio
+ * nunca se confunde con uno propio. No es thread-safe; el llamante sincroniza.
+ */
+final class TaskEventRing {
+
+    private final String epoch;
+    private final StreamedEvent[] events;
+    private long lastSequence;
+
+    TaskEventRing(String epoch, int capacity) {
+        this.epoch = epoch;
+        this.events = new StreamedEvent[capacity];
+    }
+
+    StreamedEvent append(String name, TaskSnapshot before, TaskSnapshot after, String data) {
+        long sequence = ++lastSequence;
+        StreamedEvent event = new StreamedEvent(sequence, id(sequence), name, before, after, data);
+        events[(int) (sequence % events.length)] = event;
+        return event;
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    String lastId() {
+        return id(lastSequence);
+    }
+
+    /**
+     * Eventos posteriores a {@code lastEventId}, o {@code null} si no se pueden
+     * reconstruir: id de otra época, malformado o ya sobrescrito en el buffer.
+     */
+    List<StreamedEvent> since(String lastEventId) {
+        long from = sequenceOf(lastEventId);
+        if (from < 0 || from > lastSequence || lastSequence - from > events.length) {
+            return null;
+        }
+        List<StreamedEvent> missed = new ArrayList<>((int) (lastSequence - from));
+        for (long sequence = from + 1; sequence <= lastSequence; sequence++) {
+            missed.add(events[(int) (sequence % events.length)]);
+        }
+        return missed;
+    }
+
+    private long sequenceOf(String id) {
+        int separator = id.lastIndexOf('-');
+        if (separator < 0 || !id.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(id.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String id(long sequence) {
+        return epoch + "-" + sequence;
+    }
+}
@@ -0,0 +1,77 @@
+package com.taskflow.api.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.request.TaskFilter;
+import com.taskflow.api.exception.ValidationException;
+import com.taskflow.api.export.CsvTaskExportWriter;
+import com.taskflow.api.export.ExportFormat;
+import com.taskflow.api.export.NdjsonTaskExportWriter;
+import com.taskflow.api.export.TaskExportWriter;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.projection.TaskView;
+import com.taskflow.api.service.TaskExportService;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@Timed(value = "service.method", histogram = true)
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public TaskExportServiceImpl(
+            TaskRepository taskRepository,
+            ObjectMapper objectMapper,
+            @Value("${tasks.export.fetch-size:500}") int fetchSize
+    ) {
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * La transacción de solo lectura mantiene abierto el cursor mientras se escribe;
+     * en memoria solo están las filas del fetch en curso y el buffer de salida.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(TaskFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        if (filter.getDueFrom() != null && filter.getDueTo() != null
+                && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new ValidationException("dueFrom no puede ser posterior a dueTo");
+        }
+
+        long count = 0;
+        try (Stream<TaskView> tasks = taskRepository.streamAll(filter, fetchSize);
+             TaskExportWriter writer = openWriter(format, out)) {
+            Iterator<TaskView> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                // La primera fila sale en cuanto llega; después, un volcado por cada fetch
+                if (++count == 1 || count % fetchSize == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        log.info("Exportación {} completada: {} tareas", format.getParam(), count);
+        return count;
+    }
+
+    private TaskExportWriter openWriter(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonTaskExportWriter(objectMapper, out);
+            case CSV -> new CsvTaskExportWriter(out);
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.dto.response.TaskResponse;
+import com.taskflow.api.exception.ValidationException;
+import com.taskflow.api.mapper.TaskMapper;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.projection.TaskView;
+import com.taskflow.api.search.TaskSearchIndex;
+import com.taskflow.api.search.TaskSearchQuery;
+import com.taskflow.api.service.TaskSearchService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+@Timed(value = "service.method", histogram = true)
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_TERMS = 8;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final TaskSearchIndex searchIndex;
+    private final TaskRepository taskRepository;
+
+    public TaskSearchServiceImpl(TaskSearchIndex searchIndex, TaskRepository taskRepository) {
+        this.searchIndex = searchIndex;
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponse> searchTasks(String q, TaskStatus status, Long projectId, int page, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        if (page < 0) {
+            throw new ValidationException("La página no puede ser negativa");
+        }
+        List<String> terms = terms(q);
+        if (terms.isEmpty()) {
+            throw new ValidationException("La búsqueda debe contener al menos una palabra");
+        }
+
+        List<Long> ids = searchIndex.search(new TaskSearchQuery(terms, status, projectId, page * size, size));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Una sola consulta para las filas de la página, devueltas en el orden de relevancia
+        Map<Long, TaskView> views = taskRepository.findViewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskView::id, Function.identity()));
+        return ids.stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .map(TaskMapper::toResponse)
+                .toList();
+    }
+
+    private static List<String> terms(String q) {
+        if (q == null) {
+            return List.of();
+        }
+        return Arrays.stream(NON_WORD.split(q.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+}
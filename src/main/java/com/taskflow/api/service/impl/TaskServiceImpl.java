@@ -1,7 +1,18 @@
 package com.taskflow.api.service.impl;
 
 import com.taskflow.api.dto.request.CreateTaskRequest;
+import com.taskflow.api.dto.request.TaskCursor;
+import com.taskflow.api.dto.request.TaskFilter;
+import com.taskflow.api.dto.request.TaskSort;
+import com.taskflow.api.dto.request.UpdateTaskRequest;
+import com.taskflow.api.dto.response.BatchItemResult;
+import com.taskflow.api.dto.response.BatchResponse;
+import com.taskflow.api.dto.response.CursorPage;
 import com.taskflow.api.dto.response.TaskResponse;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.exception.PreconditionFailedException;
+import com.taskflow.api.exception.ResourceNotFoundException;
+import com.taskflow.api.exception.ValidationException;
 import com.taskflow.api.mapper.TaskMapper;
 import com.taskflow.api.model.Project;
 import com.taskflow.api.model.Task;
@@ -9,55 +20,313 @@ import com.taskflow.api.model.User;
 import com.taskflow.api.repository.ProjectRepository;
 import com.taskflow.api.repository.TaskRepository;
 import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.repository.projection.TaskCollectionVersion;
+import com.taskflow.api.repository.projection.TaskSnapshot;
+import com.taskflow.api.repository.projection.TaskVersion;
+import com.taskflow.api.repository.projection.TaskView;
 import com.taskflow.api.service.TaskService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 public class TaskServiceImpl implements TaskService {
 
+    static final int MAX_PAGE_SIZE = 500;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBatchSize;
+    private final int jdbcBatchSize;
 
     public TaskServiceImpl(
             TaskRepository taskRepository,
             UserRepository userRepository,
-            ProjectRepository projectRepository
+            ProjectRepository projectRepository,
+            EntityManager entityManager,
+            Validator validator,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${tasks.batch.max-size:1000}") int maxBatchSize,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int jdbcBatchSize
     ) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.maxBatchSize = maxBatchSize;
+        this.jdbcBatchSize = jdbcBatchSize;
     }
 
     @Override
+    @Transactional
     public TaskResponse createTask(CreateTaskRequest request) {
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = userRepository.findActiveByIdUncached(request.getUserId())
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario", request.getUserId()));
 
-        Project project = projectRepository.findById(request.getProjectId())
-                .orElseThrow(() -> new RuntimeException("Project not found"));
+        Project project = projectRepository.findActiveByIdUncached(request.getProjectId())
+                .orElseThrow(() -> new ResourceNotFoundException("Proyecto", request.getProjectId()));
 
         Task task = TaskMapper.toEntity(request, user, project);
         Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(TaskMapper.toSnapshot(savedTask)));
 
         return TaskMapper.toResponse(savedTask);
     }
 
     @Override
-    public List<TaskResponse> getAllTasks() {
-        return taskRepository.findAll()
+    @Transactional
+    public BatchResponse createTasks(List<CreateTaskRequest> requests) {
+        validateBatch(requests);
+
+        // Una consulta IN por tipo de referencia, en lugar de dos findById por tarea
+        Map<Long, User> users = userRepository.findAllById(distinct(requests, CreateTaskRequest::getUserId))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Project> projects = projectRepository.findAllById(distinct(requests, CreateTaskRequest::getProjectId))
                 .stream()
-                .map(TaskMapper::toResponse)
-                .toList();
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+        int pending = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTaskRequest request = requests.get(i);
+            User user = users.get(request.getUserId());
+            Project project = projects.get(request.getProjectId());
+
+            if (user == null) {
+                results.add(BatchItemResult.rejected(i, "Usuario no encontrado con id: " + request.getUserId()));
+                continue;
+            }
+            if (project == null) {
+                results.add(BatchItemResult.rejected(i, "Proyecto no encontrado con id: " + request.getProjectId()));
+                continue;
+            }
+
+            // Con ids de secuencia el persist no ejecuta el INSERT: se agrupan hasta el flush
+            Task task = TaskMapper.toEntity(request, user, project);
+            entityManager.persist(task);
+            results.add(BatchItemResult.created(i, task.getId()));
+            eventPublisher.publishEvent(TaskChangedEvent.created(TaskMapper.toSnapshot(task)));
+
+            if (++pending == jdbcBatchSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        return BatchResponse.of(results);
+    }
+
+    private void validateBatch(List<CreateTaskRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ValidationException("El lote debe contener al menos una tarea");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new ValidationException("El lote no puede superar " + maxBatchSize + " tareas");
+        }
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (requests.get(i) == null) {
+                errors.put("[" + i + "]", "La tarea no puede ser nula");
+                continue;
+            }
+            for (ConstraintViolation<CreateTaskRequest> violation : validator.validate(requests.get(i))) {
+                errors.put("[" + i + "]." + violation.getPropertyPath(), violation.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Errores de validación en el lote", errors);
+        }
+    }
+
+    private static Set<Long> distinct(List<CreateTaskRequest> requests, Function<CreateTaskRequest, Long> id) {
+        return requests.stream().map(id).collect(Collectors.toSet());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getAllTasks(TaskFilter filter, TaskSort sort, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        if (filter.getDueFrom() != null && filter.getDueTo() != null
+                && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new ValidationException("dueFrom no puede ser posterior a dueTo");
+        }
+
+        TaskCursor after = cursor != null && !cursor.isBlank() ? TaskCursor.decode(cursor, sort) : null;
+
+        // Se pide una fila extra para saber si hay página siguiente sin hacer COUNT
+        List<TaskView> tasks = taskRepository.findPage(filter, sort, after, size + 1);
+        boolean hasNext = tasks.size() > size;
+        List<TaskView> page = hasNext ? tasks.subList(0, size) : tasks;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TaskView last = page.get(page.size() - 1);
+            nextCursor = TaskCursor.after(sort, last.dueDate(), last.id()).encode();
+        }
+
+        return CursorPage.<TaskResponse>builder()
+                .items(page.stream().map(TaskMapper::toResponse).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+        TaskView task = taskRepository.findViewById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tarea", id));
 
         return TaskMapper.toResponse(task);
     }
+
+    @Override
+    @Transactional
+    public void updateTask(Long id, UpdateTaskRequest request, String expectedVersion) {
+        if (request.isEmpty()) {
+            throw new ValidationException("Debe indicar al menos un campo a modificar");
+        }
+        Long version = expectedVersion != null ? parseVersion(expectedVersion) : null;
+
+        // Arrastrar una tarjeta entre columnas: lectura de las columnas indexadas por PK
+        // (el estado anterior, para los contadores) y un único UPDATE condicionado por la
+        // versión leída, sin cargar la entidad ni bloquear la fila más allá de la sentencia
+        if (request.isStatusOnly()) {
+            TaskSnapshot before = taskRepository.findSnapshotById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Tarea", id));
+            checkVersion(id, version, before.version());
+            if (before.status() == request.getStatus()) {
+                return;
+            }
+            if (taskRepository.updateStatus(id, before.version(), request.getStatus(), LocalDateTime.now()) == 0) {
+                throw new ObjectOptimisticLockingFailureException(Task.class, id);
+            }
+            eventPublisher.publishEvent(TaskChangedEvent.updated(before, before.withStatus(request.getStatus())));
+            return;
+        }
+
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tarea", id));
+        checkVersion(id, version, task.getVersion());
+        TaskSnapshot before = TaskMapper.toSnapshot(task);
+
+        // Solo se asignan los valores distintos: sin cambios no hay UPDATE, y con
+        // @DynamicUpdate el UPDATE contiene únicamente las columnas modificadas.
+        // Si otra escritura se cruza, el "AND version = ?" falla y se responde 409.
+        boolean changed = false;
+        if (request.getTitle() != null && !request.getTitle().equals(task.getTitle())) {
+            task.setTitle(request.getTitle());
+            changed = true;
+        }
+        if (request.getDescription() != null && !request.getDescription().equals(task.getDescription())) {
+            task.setDescription(request.getDescription());
+            changed = true;
+        }
+        if (request.getStatus() != null && request.getStatus() != task.getStatus()) {
+            task.setStatus(request.getStatus());
+            changed = true;
+        }
+        if (request.getPriority() != null && request.getPriority() != task.getPriority()) {
+            task.setPriority(request.getPriority());
+            changed = true;
+        }
+        if (request.getDueDate() != null && !request.getDueDate().equals(task.getDueDate())) {
+            task.setDueDate(request.getDueDate());
+            changed = true;
+        }
+        if (request.getUserId() != null && !Objects.equals(request.getUserId(), task.getAssignedUserId())) {
+            task.setAssignedUser(userRepository.findActiveByIdUncached(request.getUserId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Usuario", request.getUserId())));
+            changed = true;
+        }
+        if (request.getProjectId() != null && !Objects.equals(request.getProjectId(), task.getProjectId())) {
+            task.setProject(projectRepository.findActiveByIdUncached(request.getProjectId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Proyecto", request.getProjectId())));
+            changed = true;
+        }
+
+        if (changed) {
+            // El flush ejecuta el UPDATE (y el posible conflicto) aquí, y deja la versión nueva
+            taskRepository.flush();
+            eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskMapper.toSnapshot(task)));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteTask(Long id) {
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tarea", id));
+        TaskSnapshot before = TaskMapper.toSnapshot(task);
+        task.delete();
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(before));
+    }
+
+    private static void checkVersion(Long id, Long expected, long current) {
+        if (expected != null && expected != current) {
+            throw new PreconditionFailedException("La tarea " + id + " ya no está en la versión indicada en If-Match");
+        }
+    }
+
+    // Prefijo numérico del ETag de getTaskVersion; un ETag ajeno no puede coincidir
+    private static long parseVersion(String etag) {
+        int separator = etag.indexOf('-');
+        try {
+            return Long.parseLong(separator > 0 ? etag.substring(0, separator) : etag);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("El ETag de If-Match no corresponde a ninguna versión de la tarea");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getTaskVersion(Long id) {
+        TaskVersion version = taskRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tarea", id));
+
+        // "<versión>-<hash>": el prefijo numérico es lo que compara If-Match en los PATCH
+        return version.version() + "-" + Versions.of(version.userUpdatedAt(), version.projectUpdatedAt());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getTasksVersion(TaskFilter filter, TaskSort sort, String cursor, int size) {
+        // Validador de todo el conjunto filtrado (conservador para una página) más los
+        // parámetros de la página, para que cada página tenga su propio ETag
+        TaskCollectionVersion version = taskRepository.findVersion(filter);
+        return Versions.of(version.count(), version.lastUpdatedAt(), version.usersUpdatedAt(),
+                version.projectsUpdatedAt(), version.unresolvedUsers(), version.unresolvedProjects(),
+                sort, cursor, size);
+    }
 }
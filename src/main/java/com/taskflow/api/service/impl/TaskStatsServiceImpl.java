@@ -0,0 +1,99 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.dto.response.TaskStatsResponse;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.projection.TaskCountRow;
+import com.taskflow.api.service.TaskStatsService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Agregados del panel servidos desde contadores en memoria: cada lectura es un recorrido
+ * de los contadores, sin consultar la tabla de tareas. Los contadores se actualizan con
+ * los {@link TaskChangedEvent} confirmados y se reconcilian periódicamente con un
+ * recuento agrupado en SQL, que además los inicializa al arrancar.
+ */
+@Service
+@Timed(value = "service.method", histogram = true)
+@Slf4j
+public class TaskStatsServiceImpl implements TaskStatsService {
+
+    private final TaskRepository taskRepository;
+    private final Timer reconcileTimer;
+    private final AtomicLong lastDrift = new AtomicLong();
+
+    private volatile TaskCounters counters = new TaskCounters();
+    private volatile LocalDateTime reconciledAt;
+
+    public TaskStatsServiceImpl(TaskRepository taskRepository, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.reconcileTimer = Timer.builder("tasks.stats.reconcile")
+                .description("Duración del recuento agrupado de reconciliación")
+                .register(meterRegistry);
+        Gauge.builder("tasks.stats.drift", lastDrift, AtomicLong::get)
+                .description("Diferencia entre contadores en memoria y SQL en la última reconciliación")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public TaskStatsResponse getStats() {
+        TaskCounters current = counters;
+        LocalDate today = LocalDate.now();
+        return TaskStatsResponse.builder()
+                .total(current.total(today))
+                .byProject(current.byProject(today))
+                .byUser(current.byUser(today))
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskCounters current = counters;
+        if (event.before() != null) {
+            current.add(event.before(), -1);
+        }
+        if (event.after() != null) {
+            current.add(event.after(), 1);
+        }
+    }
+
+    /**
+     * Sustituye los contadores por un recuento nuevo. Un evento que se confirme mientras
+     * corre la consulta puede quedar contado dos veces o ninguna; la diferencia es
+     * transitoria y la corrige la siguiente reconciliación.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${tasks.stats.reconcile-interval:PT5M}")
+    public long reconcile() {
+        return reconcileTimer.record(() -> {
+            TaskCounters fresh = new TaskCounters();
+            for (TaskCountRow row : taskRepository.countActiveGrouped()) {
+                fresh.add(row.projectId(), row.userId(), row.status(), row.dueDate(), row.count());
+            }
+
+            long drift = TaskCounters.drift(counters, fresh, LocalDate.now());
+            counters = fresh;
+            // La primera pasada parte de contadores vacíos: no es desviación
+            if (reconciledAt != null) {
+                lastDrift.set(drift);
+                if (drift > 0) {
+                    log.warn("Contadores de tareas desviados en {} respecto a la base de datos; reconciliados", drift);
+                }
+            }
+            reconciledAt = LocalDateTime.now();
+            return drift;
+        });
+    }
+}
@@ -0,0 +1,239 @@
+package com.taskflow.api.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.response.TaskStreamEvent;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.repository.projection.TaskSnapshot;
+import com.taskflow.api.service.TaskStreamService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stream SSE de cambios de tareas confirmados. Las conexiones son asíncronas (no
+ * ocupan un hilo mientras esperan) y cada suscriptor tiene una cola limitada. El
+ * listener, en el hilo de la petición que escribió, solo añade el evento al buffer y
+ * lo pasa a un único hilo de reparto, que filtra los suscriptores y encola; un hilo
+ * virtual por suscriptor con eventos pendientes los escribe. Si un cliente lento llena su cola se cierra su conexión; al reconectar con
+ * {@code Last-Event-ID} recupera lo perdido del buffer circular.
+ */
+@Service
+@Timed(value = "service.method", histogram = true)
+@Slf4j
+public class TaskStreamServiceImpl implements TaskStreamService, DisposableBean {
+
+    private static final String READY = "ready";
+    private static final String RESET = "reset";
+
+    private final ObjectMapper objectMapper;
+    private final int subscriberBuffer;
+    private final long timeoutMillis;
+    private final Set<StreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    // Un solo hilo: reparte los eventos en el mismo orden en que entraron en el buffer
+    private final ThreadPoolExecutor fanOut = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), task -> {
+                Thread thread = new Thread(task, "task-stream-fanout");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private final Counter evictions;
+
+    // Guarda el buffer y el alta de suscriptores: cada evento llega o en el reenvío o en vivo
+    private final Object lock = new Object();
+    private final TaskEventRing ring;
+
+    public TaskStreamServiceImpl(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${tasks.stream.replay-size:10000}") int replaySize,
+            @Value("${tasks.stream.subscriber-buffer:256}") int subscriberBuffer,
+            @Value("${tasks.stream.timeout:30m}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.subscriberBuffer = subscriberBuffer;
+        this.timeoutMillis = timeout.toMillis();
+        this.ring = new TaskEventRing(Long.toString(System.currentTimeMillis(), 36), replaySize);
+        this.evictions = Counter.builder("tasks.stream.evictions")
+                .description("Suscriptores desconectados por no consumir eventos a tiempo")
+                .register(meterRegistry);
+        Gauge.builder("tasks.stream.subscribers", subscribers, Set::size)
+                .description("Conexiones abiertas a /api/tasks/stream")
+                .register(meterRegistry);
+        Gauge.builder("tasks.stream.fanout.queued", fanOut, pool -> pool.getQueue().size())
+                .description("Eventos confirmados pendientes de repartir a los suscriptores")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribe(Long projectId, Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        StreamSubscriber subscriber = new StreamSubscriber(emitter, projectId, userId, subscriberBuffer);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        // El cliente reconecta con Last-Event-ID; sin esto el timeout acabaría en error
+        emitter.onTimeout(emitter::complete);
+
+        // Reenvío y evento inicial se mandan antes de devolver el emitter: Spring MVC los
+        // escribe al inicializarlo, en el hilo de la petición, y las cabeceras se confirman
+        // ahí en lugar de competir con los filtros que todavía las están escribiendo
+        synchronized (lock) {
+            try {
+                for (StreamedEvent event : initialEvents(subscriber, lastEventId)) {
+                    emitter.send(event.toSse());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // Los eventos hasta aquí ya van en el reenvío, aunque el reparto aún no los haya procesado
+            subscriber.replayedUpTo(ring.lastSequence());
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    private List<StreamedEvent> initialEvents(StreamSubscriber subscriber, String lastEventId) {
+        List<StreamedEvent> events = new ArrayList<>();
+        if (lastEventId != null) {
+            List<StreamedEvent> missed = ring.since(lastEventId);
+            if (missed == null) {
+                events.add(StreamedEvent.control(ring.lastId(), RESET));
+            } else {
+                missed.stream().filter(subscriber::accepts).forEach(events::add);
+            }
+        }
+        // Lleva el id actual para que un cliente sin eventos también pueda reanudar
+        events.add(StreamedEvent.control(ring.lastId(), READY));
+        return events;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        String name = event.type().name().toLowerCase(Locale.ROOT);
+        String data = serialize(event);
+        synchronized (lock) {
+            StreamedEvent streamed = ring.append(name, event.before(), event.after(), data);
+            try {
+                fanOut.execute(() -> deliver(streamed));
+            } catch (RejectedExecutionException e) {
+                // Aplicación parándose: los suscriptores ya se han cerrado
+            }
+        }
+    }
+
+    private void deliver(StreamedEvent event) {
+        for (StreamSubscriber subscriber : subscribers) {
+            if (!subscriber.accepts(event)) {
+                continue;
+            }
+            if (subscriber.offer(event)) {
+                drain(subscriber);
+            } else {
+                evict(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Latido a las conexiones sin eventos pendientes: mantiene abiertos los proxies y
+     * detecta los clientes que se fueron sin cerrar la conexión.
+     */
+    @Scheduled(fixedRateString = "${tasks.stream.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        for (StreamSubscriber subscriber : subscribers) {
+            if (subscriber.offerIfIdle(StreamedEvent.HEARTBEAT)) {
+                drain(subscriber);
+            }
+        }
+    }
+
+    private void drain(StreamSubscriber subscriber) {
+        if (!subscriber.startDrain()) {
+            return;
+        }
+        dispatcher.execute(() -> {
+            try {
+                StreamedEvent event;
+                while (!subscriber.isClosed() && (event = subscriber.poll()) != null) {
+                    subscriber.emitter().send(event.toSse());
+                }
+                if (subscriber.isClosed()) {
+                    subscriber.emitter().complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Conexión cerrada por el cliente: el contenedor completa el emitter
+                remove(subscriber);
+            } finally {
+                subscriber.endDrain();
+                if (!subscriber.isClosed() && subscriber.hasPending()) {
+                    drain(subscriber);
+                }
+            }
+        });
+    }
+
+    private void evict(StreamSubscriber subscriber) {
+        remove(subscriber);
+        evictions.increment();
+        log.debug("Suscriptor del stream de tareas desconectado: cola llena ({} eventos)", subscriberBuffer);
+        drain(subscriber);
+    }
+
+    private void remove(StreamSubscriber subscriber) {
+        subscriber.close();
+        subscribers.remove(subscriber);
+    }
+
+    private String serialize(TaskChangedEvent event) {
+        TaskSnapshot task = event.after() != null ? event.after() : event.before();
+        TaskStreamEvent payload = TaskStreamEvent.builder()
+                .type(event.type().name())
+                .taskId(task.id())
+                .status(task.status())
+                .dueDate(task.dueDate())
+                .userId(task.userId())
+                .projectId(task.projectId())
+                .build();
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (StreamSubscriber subscriber : subscribers) {
+            try {
+                subscriber.emitter().complete();
+            } catch (IllegalStateException e) {
+                // Respuesta ya cerrada por el contenedor
+            }
+        }
+        fanOut.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+}
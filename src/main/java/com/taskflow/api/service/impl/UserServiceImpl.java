@@ -1,49 +1,226 @@
 package com.taskflow.api.service.impl;
 
 import com.taskflow.api.dto.request.CreateUserRequest;
+import com.taskflow.api.dto.response.BatchItemResult;
+import com.taskflow.api.dto.response.BatchResponse;
 import com.taskflow.api.dto.response.UserResponse;
+import com.taskflow.api.event.UserDeletedEvent;
 import com.taskflow.api.exception.EmailAlreadyExistsException;
 import com.taskflow.api.exception.ResourceNotFoundException;
+import com.taskflow.api.exception.ValidationException;
 import com.taskflow.api.mapper.UserMapper;
 import com.taskflow.api.model.User;
 import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.repository.projection.CollectionVersion;
+import com.taskflow.api.security.PasswordHasher;
 import com.taskflow.api.service.UserService;
-import lombok.RequiredArgsConstructor;
+import com.taskflow.api.user.KnownEmails;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
-@RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 @Slf4j
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final KnownEmails knownEmails;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBatchSize;
+    private final int jdbcBatchSize;
 
+    public UserServiceImpl(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            KnownEmails knownEmails,
+            EntityManager entityManager,
+            Validator validator,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${users.batch.max-size:1000}") int maxBatchSize,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int jdbcBatchSize
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.knownEmails = knownEmails;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.maxBatchSize = maxBatchSize;
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    /**
+     * Sin {@code @Transactional} ni consulta previa para los emails que el filtro
+     * descarta: el hash BCrypt (~100 ms) se calcula sin conexión y el duplicado, si
+     * lo hay, lo detecta la restricción única en el INSERT. Solo los emails que
+     * pueden existir se consultan antes, para no gastar un hash en un 409.
+     */
     @Override
-    @Transactional
     public UserResponse createUser(CreateUserRequest request) {
-        log.info("Creando usuario con email: {}", request.getEmail());
+        String email = UserMapper.normalizeEmail(request.getEmail());
+        log.info("Creando usuario con email: {}", email);
 
-        if (userRepository.existsByEmail(request.getEmail())) {
-            log.warn("Intento de crear usuario con email duplicado: {}", request.getEmail());
-            throw new EmailAlreadyExistsException(request.getEmail());
+        if (knownEmails.mightExist(email) && !userRepository.findTakenEmails(List.of(email)).isEmpty()) {
+            log.warn("Intento de crear usuario con email duplicado: {}", email);
+            throw new EmailAlreadyExistsException(email);
         }
 
         User user = UserMapper.toEntity(request);
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        User saved = userRepository.save(user);
+        user.setPassword(passwordHasher.hash(request.getPassword()));
+        User saved;
+        try {
+            saved = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (!EmailAlreadyExistsException.isCauseOf(ex)) {
+                throw ex;
+            }
+            // Alta concurrente con el mismo email, o registrada en otro nodo
+            knownEmails.add(email);
+            log.warn("Intento de crear usuario con email duplicado: {}", email);
+            throw new EmailAlreadyExistsException(email);
+        }
+        knownEmails.add(email);
 
         log.info("Usuario creado exitosamente con id: {}", saved.getId());
         return UserMapper.toResponse(saved);
     }
 
+    /**
+     * Los hashes se calculan en paralelo en el {@link PasswordHasher} antes de abrir
+     * la transacción; después los INSERT se envían en lotes JDBC. Se rechazan por
+     * elemento los emails repetidos en el lote o ya registrados; solo se consultan
+     * en la base de datos los que el filtro de emails no descarta.
+     */
+    @Override
+    public BatchResponse createUsers(List<CreateUserRequest> requests) {
+        validateBatch(requests);
+
+        List<String> emails = requests.stream()
+                .map(request -> UserMapper.normalizeEmail(request.getEmail()))
+                .toList();
+        List<String> candidates = emails.stream()
+                .distinct()
+                .filter(knownEmails::mightExist)
+                .toList();
+        Set<String> taken = candidates.isEmpty() ? Set.of() : new HashSet<>(userRepository.findTakenEmails(candidates));
+        Set<String> inBatch = new HashSet<>();
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Integer> accepted = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String email = emails.get(i);
+            if (taken.contains(email)) {
+                results[i] = BatchItemResult.rejected(i, "El email ya está registrado: " + email);
+            } else if (!inBatch.add(email)) {
+                results[i] = BatchItemResult.rejected(i, "Email repetido en el lote: " + email);
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        List<String> hashes = passwordHasher.hashAll(
+                accepted.stream().map(i -> requests.get(i).getPassword()).toList());
+        String[] passwordHashes = new String[requests.size()];
+        for (int n = 0; n < accepted.size(); n++) {
+            passwordHashes[accepted.get(n)] = hashes.get(n);
+        }
+
+        try {
+            insertAll(requests, accepted, passwordHashes, results);
+        } catch (RuntimeException ex) {
+            if (!EmailAlreadyExistsException.isCauseOf(ex)) {
+                throw ex;
+            }
+            // Algún email se registró en otro nodo o entre la consulta y el INSERT: se
+            // comprueban todos en la base de datos y se repite sin ellos
+            Set<String> takenNow = new HashSet<>(userRepository.findTakenEmails(
+                    accepted.stream().map(emails::get).toList()));
+            accepted.removeIf(i -> {
+                String email = emails.get(i);
+                if (!takenNow.contains(email)) {
+                    return false;
+                }
+                knownEmails.add(email);
+                results[i] = BatchItemResult.rejected(i, "El email ya está registrado: " + email);
+                return true;
+            });
+            insertAll(requests, accepted, passwordHashes, results);
+        }
+        accepted.forEach(i -> knownEmails.add(emails.get(i)));
+
+        log.info("Alta masiva de usuarios: {} creados, {} rechazados",
+                accepted.size(), requests.size() - accepted.size());
+        return BatchResponse.of(Arrays.asList(results));
+    }
+
+    private void insertAll(List<CreateUserRequest> requests, List<Integer> accepted,
+                           String[] passwordHashes, BatchItemResult[] results) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int n = 0; n < accepted.size(); n++) {
+                int index = accepted.get(n);
+                User user = UserMapper.toEntity(requests.get(index));
+                user.setPassword(passwordHashes[index]);
+                // Con ids de secuencia el persist no ejecuta el INSERT: se agrupan hasta el flush
+                entityManager.persist(user);
+                results[index] = BatchItemResult.created(index, user.getId());
+
+                if ((n + 1) % jdbcBatchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private void validateBatch(List<CreateUserRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ValidationException("El lote debe contener al menos un usuario");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new ValidationException("El lote no puede superar " + maxBatchSize + " usuarios");
+        }
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (requests.get(i) == null) {
+                errors.put("[" + i + "]", "El usuario no puede ser nulo");
+                continue;
+            }
+            for (ConstraintViolation<CreateUserRequest> violation : validator.validate(requests.get(i))) {
+                errors.put("[" + i + "]." + violation.getPropertyPath(), violation.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Errores de validación en el lote", errors);
+        }
+    }
+
     @Override
     public Page<UserResponse> getAllUsers(Pageable pageable) {
         return userRepository.findAll(pageable)
@@ -52,18 +229,36 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserResponse getUserById(Long id) {
-        User user = userRepository.findById(id)
+        User user = userRepository.findActiveById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuario", id));
         return UserMapper.toResponse(user);
     }
 
+    /**
+     * Sin consulta de versión aparte: el usuario sale de la caché de segundo nivel.
+     */
+    @Override
+    public String getUserVersion(Long id) {
+        User user = userRepository.findActiveById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario", id));
+        return Versions.of(user.getUpdatedAt());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getUsersVersion(Pageable pageable) {
+        CollectionVersion version = userRepository.findCollectionVersion();
+        return Versions.of(version.count(), version.lastUpdatedAt(), pageable);
+    }
+
     @Override
     @Transactional
     public void deleteUser(Long id) {
-        User user = userRepository.findById(id)
+        User user = userRepository.findActiveByIdUncached(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuario", id));
         user.delete();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserDeletedEvent(user.getId(), user.getEmail()));
         log.info("Usuario marcado como eliminado: {}", id);
     }
 }
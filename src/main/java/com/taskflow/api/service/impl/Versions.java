@@ -0,0 +1,32 @@
+package com.taskflow.api.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Versión opaca de una representación: resumen SHA-256 (128 bits) de las marcas de
+ * modificación que la determinan. Los controladores la publican como ETag fuerte.
+ */
+final class Versions {
+
+    private static final int LENGTH = 16;
+
+    private Versions() {
+    }
+
+    static String of(Object... parts) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+        for (Object part : parts) {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, LENGTH);
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskflow.api.user;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de cadenas, seguro entre hilos y sin bloqueos: {@code add} fija
+ * bits con CAS y {@code mightContain} solo los lee. Nunca da falsos negativos; la
+ * tasa de falsos positivos es la de diseño mientras no se superen
+ * {@code expectedInsertions} elementos y después crece poco a poco.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        // Tamaño y número de funciones óptimos: m = -n·ln(p) / ln(2)², k = m/n · ln(2)
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray((int) Math.min((m + 63) / 64, Integer.MAX_VALUE));
+        this.bits = (long) words.length() * 64;
+        this.hashes = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    void add(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashes; i++) {
+            long bit = index(hash, i);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, set) -> current | set);
+            }
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashes; i++) {
+            long bit = index(hash, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Doble hash (Kirsch-Mitzenmacher): las k posiciones salen de las dos mitades de un hash de 64 bits
+    private long index(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long combined = h1 + (long) i * h2;
+        return Math.floorMod(combined, bits);
+    }
+
+    // FNV-1a de 64 bits sobre UTF-8, con la mezcla final de MurmurHash3
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
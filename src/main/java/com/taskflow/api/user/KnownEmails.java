@@ -0,0 +1,90 @@
+package com.taskflow.api.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filtro de Bloom con los emails registrados, incluidos los de usuarios borrados
+ * (la restricción única {@code uk_users_email} también los incluye). Se carga al
+ * arrancar y se amplía con cada alta de este nodo.
+ *
+ * <p>Si {@link #mightExist} devuelve {@code false}, el email no estaba al arrancar
+ * ni se ha registrado aquí después; el alta puede saltarse la consulta previa. No
+ * ve las altas de otros nodos, así que la garantía sigue siendo la restricción
+ * única: el filtro solo decide cuándo merece la pena preguntar a la base de datos.
+ * Mientras se carga, todo email cuenta como posible duplicado.
+ */
+@Slf4j
+@Component
+public class KnownEmails {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final BloomFilter filter;
+    private final AtomicLong added = new AtomicLong();
+    private volatile boolean loaded;
+
+    private final Counter skipped;
+    private final Counter queried;
+
+    public KnownEmails(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${users.email-filter.expected-emails:1000000}") long expectedEmails,
+            @Value("${users.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.filter = new BloomFilter(expectedEmails, falsePositiveRate);
+        this.skipped = precheck(meterRegistry, "skipped");
+        this.queried = precheck(meterRegistry, "queried");
+    }
+
+    private static Counter precheck(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("users.email.precheck")
+                .description("Comprobaciones de email en altas: descartadas por el filtro o consultadas")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // Dentro de una transacción para que PostgreSQL use un cursor con el fetch size
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement("SELECT email FROM users");
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> add(rs.getString(1))));
+        loaded = true;
+        log.info("Filtro de emails cargado: {} emails", added.get());
+    }
+
+    /**
+     * {@code false} si el email seguro que no está registrado (salvo altas en otros
+     * nodos); {@code true} si puede estarlo y hay que consultar.
+     */
+    public boolean mightExist(String email) {
+        boolean mightExist = !loaded || filter.mightContain(email);
+        (mightExist ? queried : skipped).increment();
+        return mightExist;
+    }
+
+    public void add(String email) {
+        filter.add(email);
+        added.incrementAndGet();
+    }
+}
@@ -0,0 +1,47 @@
+-- Esquema inicial: el mismo que generaba ddl-auto a partir de las entidades.
+-- Ids de secuencia con incremento 50 (optimizador pooled de Hibernate).
+
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE projects_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id         BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    deleted_at TIMESTAMP(6),
+    name       VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    active     BOOLEAN      NOT NULL,
+    role       VARCHAR(255) NOT NULL CHECK (role IN ('USER', 'ADMIN')),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE projects (
+    id          BIGINT       NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    deleted_at  TIMESTAMP(6),
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(500),
+    CONSTRAINT pk_projects PRIMARY KEY (id)
+);
+
+CREATE TABLE tasks (
+    id          BIGINT        NOT NULL,
+    created_at  TIMESTAMP(6)  NOT NULL,
+    updated_at  TIMESTAMP(6)  NOT NULL,
+    deleted_at  TIMESTAMP(6),
+    title       VARCHAR(255)  NOT NULL,
+    description VARCHAR(1000),
+    status      VARCHAR(255)  NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE')),
+    priority    VARCHAR(255)  NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    due_date    DATE,
+    user_id     BIGINT,
+    project_id  BIGINT,
+    CONSTRAINT pk_tasks PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
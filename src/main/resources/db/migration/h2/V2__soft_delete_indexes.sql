@@ -0,0 +1,14 @@
+-- Índices para las formas de consulta de TaskRepository. H2 no admite índices
+-- parciales: mismas columnas que en PostgreSQL pero sin WHERE deleted_at IS NULL.
+
+-- findByStatus y listado filtrado por estado (keyset por id)
+CREATE INDEX idx_tasks_status_id ON tasks (status, id);
+
+-- findByAssignedUserId y listado filtrado por usuario
+CREATE INDEX idx_tasks_user_id ON tasks (user_id, id);
+
+-- findByProjectId, filtro proyecto + estado y recuento por estado de ProjectRepository
+CREATE INDEX idx_tasks_project_status_id ON tasks (project_id, status, id);
+
+-- Orden y rango por fecha de vencimiento
+CREATE INDEX idx_tasks_due_date_id ON tasks (due_date, id);
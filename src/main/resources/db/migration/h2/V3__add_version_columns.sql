@@ -0,0 +1,4 @@
+-- Columna de bloqueo optimista (@Version en BaseEntity)
+ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE projects ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
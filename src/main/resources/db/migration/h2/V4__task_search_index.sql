@@ -0,0 +1,2 @@
+-- En H2 la búsqueda usa el índice Lucene en memoria (LuceneTaskSearchIndex): sin
+-- cambios de esquema. Se mantiene la versión para alinear con PostgreSQL.
@@ -0,0 +1,14 @@
+-- Outbox transaccional: eventos escritos en la transacción del cambio y borrados
+-- por el relay al entregarlos. El relay lee por id (clave primaria) con SKIP LOCKED.
+
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id             BIGINT        NOT NULL,
+    aggregate_type VARCHAR(50)   NOT NULL,
+    aggregate_id   BIGINT        NOT NULL,
+    event_type     VARCHAR(50)   NOT NULL,
+    payload        VARCHAR(4000) NOT NULL,
+    created_at     TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
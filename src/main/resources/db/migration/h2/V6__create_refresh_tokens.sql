@@ -0,0 +1,37 @@
+-- Refresh tokens rotatorios (solo el hash SHA-256) y revocaciones de access tokens.
+-- Un refresh token usado se conserva hasta su expiración para detectar reutilizaciones.
+
+CREATE SEQUENCE refresh_tokens_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE token_revocations_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE refresh_tokens (
+    id         BIGINT       NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    token_hash VARCHAR(64)  NOT NULL,
+    family_id  VARCHAR(36)  NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    used_at    TIMESTAMP(6),
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens (user_id);
+CREATE INDEX idx_refresh_tokens_expires ON refresh_tokens (expires_at);
+
+-- jti revoca un access token; user_id revoca todos los emitidos antes de revoked_at.
+-- Las filas se borran al pasar expires_at: ningún token afectado sigue vigente.
+CREATE TABLE token_revocations (
+    id         BIGINT       NOT NULL,
+    jti        VARCHAR(36),
+    user_id    BIGINT,
+    revoked_at TIMESTAMP(6) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_token_revocations PRIMARY KEY (id),
+    CONSTRAINT ck_token_revocations_target CHECK (jti IS NOT NULL OR user_id IS NOT NULL)
+);
+
+CREATE INDEX idx_token_revocations_revoked ON token_revocations (revoked_at);
+CREATE INDEX idx_token_revocations_expires ON token_revocations (expires_at);
@@ -0,0 +1,47 @@
+-- Filas borradas lógicamente que superan archival.retention (ArchivalJob). Mismas
+-- columnas que la tabla de origen más archived_at, sin claves foráneas ni CHECK: una
+-- fila archivada no cambia y puede referirse a usuarios o proyectos ya archivados.
+-- Los usuarios se archivan sin el hash de la contraseña.
+
+CREATE TABLE tasks_archive (
+    id          BIGINT        NOT NULL,
+    created_at  TIMESTAMP(6)  NOT NULL,
+    updated_at  TIMESTAMP(6)  NOT NULL,
+    deleted_at  TIMESTAMP(6)  NOT NULL,
+    version     BIGINT        NOT NULL,
+    title       VARCHAR(255)  NOT NULL,
+    description VARCHAR(1000),
+    status      VARCHAR(255)  NOT NULL,
+    priority    VARCHAR(255)  NOT NULL,
+    due_date    DATE,
+    user_id     BIGINT,
+    project_id  BIGINT,
+    archived_at TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT pk_tasks_archive PRIMARY KEY (id)
+);
+
+CREATE TABLE projects_archive (
+    id          BIGINT       NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    deleted_at  TIMESTAMP(6) NOT NULL,
+    version     BIGINT       NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(500),
+    archived_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_projects_archive PRIMARY KEY (id)
+);
+
+CREATE TABLE users_archive (
+    id          BIGINT       NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    deleted_at  TIMESTAMP(6) NOT NULL,
+    version     BIGINT       NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    active      BOOLEAN      NOT NULL,
+    role        VARCHAR(255) NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_users_archive PRIMARY KEY (id)
+);
@@ -0,0 +1,6 @@
+-- Índices de ArchivalJob. H2 no admite índices parciales: se indexa deleted_at para
+-- localizar las filas candidatas. Las referencias desde tasks ya las cubren los
+-- índices de V2, que en H2 incluyen las filas borradas.
+CREATE INDEX idx_tasks_deleted_id ON tasks (deleted_at, id);
+CREATE INDEX idx_projects_deleted_id ON projects (deleted_at, id);
+CREATE INDEX idx_users_deleted_id ON users (deleted_at, id);
@@ -0,0 +1,22 @@
+-- Las bases adoptadas con baseline-on-migrate (creadas antes por ddl-auto) no
+-- ejecutaron V1: su restricción única sobre users.email conserva el nombre que generó
+-- Hibernate (uk6dotkott...). EmailAlreadyExistsException reconoce el email duplicado
+-- por el nombre uk_users_email, así que se renombra aquí. En las bases creadas por V1
+-- no hace nada. Sin equivalente en H2, que siempre se crea desde V1.
+DO $$
+DECLARE
+    current_name TEXT;
+BEGIN
+    SELECT c.conname INTO current_name
+    FROM pg_constraint c
+    JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+    WHERE c.conrelid = 'users'::regclass
+      AND c.contype = 'u'
+      AND cardinality(c.conkey) = 1
+      AND a.attname = 'email';
+
+    IF current_name IS NOT NULL AND current_name <> 'uk_users_email' THEN
+        EXECUTE format('ALTER TABLE users RENAME CONSTRAINT %I TO uk_users_email', current_name);
+    END IF;
+END
+$$;
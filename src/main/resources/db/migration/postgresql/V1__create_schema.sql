@@ -0,0 +1,57 @@
+-- Esquema inicial: el mismo que generaba ddl-auto a partir de las entidades.
+-- Ids de secuencia con incremento 50 (optimizador pooled de Hibernate).
+--
+-- Idempotente a propósito: las bases creadas antes con ddl-auto ya tienen las
+-- tablas (Flyway las adopta con baseline-on-migrate en versión 0), y aquí solo se
+-- añade lo que falte y se colocan las secuencias por encima del id máximo.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS projects_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS users (
+    id         BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    deleted_at TIMESTAMP(6),
+    name       VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    active     BOOLEAN      NOT NULL,
+    role       VARCHAR(255) NOT NULL CHECK (role IN ('USER', 'ADMIN')),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS projects (
+    id          BIGINT       NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    deleted_at  TIMESTAMP(6),
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(500),
+    CONSTRAINT pk_projects PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id          BIGINT        NOT NULL,
+    created_at  TIMESTAMP(6)  NOT NULL,
+    updated_at  TIMESTAMP(6)  NOT NULL,
+    deleted_at  TIMESTAMP(6),
+    title       VARCHAR(255)  NOT NULL,
+    description VARCHAR(1000),
+    status      VARCHAR(255)  NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE')),
+    priority    VARCHAR(255)  NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    due_date    DATE,
+    user_id     BIGINT,
+    project_id  BIGINT,
+    CONSTRAINT pk_tasks PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id)
+);
+
+-- Con el optimizador pooled, nextval = n reserva los ids (n - 50, n]: se deja
+-- el siguiente valor al menos 50 por encima del id máximo existente
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) FROM users) + 50);
+SELECT setval('projects_seq', (SELECT COALESCE(MAX(id), 0) FROM projects) + 50);
+SELECT setval('tasks_seq', (SELECT COALESCE(MAX(id), 0) FROM tasks) + 50);
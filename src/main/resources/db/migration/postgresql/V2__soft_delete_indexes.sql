@@ -0,0 +1,29 @@
+-- Índices para las formas de consulta de TaskRepository. Todas filtran por
+-- deleted_at IS NULL (predicado explícito + @Where), así que en PostgreSQL son
+-- parciales: no indexan las filas borradas y el planificador solo los elige
+-- cuando la consulta incluye el mismo predicado.
+--
+-- CONCURRENTLY para no bloquear escrituras en tablas ya pobladas; Flyway ejecuta
+-- esta migración fuera de transacción.
+
+-- Versiones completas creadas por ddl-auto en bases anteriores a las migraciones
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_status_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_user_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_project_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_due_date_id;
+
+-- findByStatus y listado filtrado por estado (keyset por id)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_status_id
+    ON tasks (status, id) WHERE deleted_at IS NULL;
+
+-- findByAssignedUserId y listado filtrado por usuario
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_id
+    ON tasks (user_id, id) WHERE deleted_at IS NULL;
+
+-- findByProjectId, filtro proyecto + estado y recuento por estado de ProjectRepository
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project_status_id
+    ON tasks (project_id, status, id) WHERE deleted_at IS NULL;
+
+-- Orden y rango por fecha de vencimiento (NULLS LAST es el orden nativo del índice)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_due_date_id
+    ON tasks (due_date, id) WHERE deleted_at IS NULL;
@@ -0,0 +1,5 @@
+-- Columna de bloqueo optimista (@Version en BaseEntity). Con un DEFAULT constante
+-- PostgreSQL 11+ solo actualiza el catálogo: no reescribe las tablas existentes.
+ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE projects ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
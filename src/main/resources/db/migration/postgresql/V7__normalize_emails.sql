@@ -0,0 +1,7 @@
+-- Emails en minúsculas y sin espacios: UserMapper los normaliza al escribir y las
+-- búsquedas por email (login) normalizan el parámetro, así que uk_users_email sirve
+-- la búsqueda sin LOWER() en la consulta. Falla si dos usuarios solo difieren en
+-- mayúsculas: hay que resolverlos a mano antes de migrar.
+UPDATE users SET email = LOWER(TRIM(email)) WHERE email <> LOWER(TRIM(email));
+
+ALTER TABLE users ADD CONSTRAINT ck_users_email_normalized CHECK (email = LOWER(TRIM(email)));
@@ -0,0 +1,23 @@
+-- Índices de ArchivalJob. Parciales sobre las filas borradas: los de V2 solo cubren
+-- las activas, y estos solo ocupan lo que esté pendiente de archivar.
+--
+-- CONCURRENTLY para no bloquear escrituras; Flyway ejecuta esta migración fuera de
+-- transacción.
+
+-- Recorrido keyset por id de las filas candidatas
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_deleted_id
+    ON tasks (id) WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_deleted_id
+    ON projects (id) WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_deleted_id
+    ON users (id) WHERE deleted_at IS NOT NULL;
+
+-- Un proyecto o usuario solo se archiva sin tareas que lo referencien: las activas se
+-- buscan con los índices de V2 y las borradas aún no archivadas con estos
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_deleted_project
+    ON tasks (project_id) WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_deleted_user
+    ON tasks (user_id) WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,115 @@
+package com.taskflow.api.archive;
+
+import com.taskflow.api.dto.request.CreateProjectRequest;
+import com.taskflow.api.dto.request.CreateTaskRequest;
+import com.taskflow.api.dto.request.CreateUserRequest;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.service.ProjectService;
+import com.taskflow.api.service.TaskService;
+import com.taskflow.api.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        // Lotes de una fila para recorrer varias transacciones; el test llama al job directamente
+        "archival.chunk-size=1",
+        "archival.chunk-delay=0s",
+        "archival.initial-delay=PT1H"
+})
+class ArchivalJobTest {
+
+    @Autowired
+    private ArchivalJob job;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void archivesExpiredRowsOnceNothingReferencesThem() {
+        Long ownerId = createUser("Archivo");
+        Long formerId = createUser("Antiguo");
+        Long projectId = createProject("Archivo");
+        Long liveProjectId = createProject("Activo");
+        Long expiredTaskId = createTask("Caducada", ownerId, projectId);
+        Long recentTaskId = createTask("Reciente", formerId, liveProjectId);
+
+        taskService.deleteTask(expiredTaskId);
+        taskService.deleteTask(recentTaskId);
+        userService.deleteUser(formerId);
+        jdbcTemplate.update("UPDATE projects SET deleted_at = ? WHERE id = ?", LocalDateTime.now(), projectId);
+        expire("tasks", expiredTaskId);
+        expire("projects", projectId);
+        expire("users", formerId);
+
+        job.run();
+
+        assertThat(archived("tasks", expiredTaskId)).isTrue();
+        assertThat(archived("projects", projectId)).isTrue();
+        // Su tarea borrada aún está dentro de la retención: el usuario espera a la siguiente pasada
+        assertThat(archived("users", formerId)).isFalse();
+        assertThat(archived("tasks", recentTaskId)).isFalse();
+
+        expire("tasks", recentTaskId);
+        job.run();
+
+        assertThat(archived("tasks", recentTaskId)).isTrue();
+        assertThat(archived("users", formerId)).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT email FROM users_archive WHERE id = ?", String.class, formerId)).startsWith("antiguo-");
+        assertThat(archived("users", ownerId)).isFalse();
+        assertThat(archived("projects", liveProjectId)).isFalse();
+    }
+
+    private Long createProject(String name) {
+        return projectService.createProject(CreateProjectRequest.builder()
+                .name(name)
+                .build()).getId();
+    }
+
+    private Long createUser(String name) {
+        return userService.createUser(CreateUserRequest.builder()
+                .name(name)
+                .email(name.toLowerCase() + "-" + UUID.randomUUID() + "@test.com")
+                .password("Passw0rd1")
+                .build()).getId();
+    }
+
+    private Long createTask(String title, Long userId, Long projectId) {
+        return taskService.createTask(CreateTaskRequest.builder()
+                .title(title)
+                .status(TaskStatus.TODO)
+                .priority(Priority.MEDIUM)
+                .userId(userId)
+                .projectId(projectId)
+                .build()).getId();
+    }
+
+    private void expire(String table, Long id) {
+        jdbcTemplate.update("UPDATE " + table + " SET deleted_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(60), id);
+    }
+
+    private boolean archived(String table, Long id) {
+        Integer live = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+        Integer archived = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + "_archive WHERE id = ?", Integer.class, id);
+        return live == 0 && archived == 1;
+    }
+}
@@ -0,0 +1,146 @@
+package com.taskflow.api.auth;
+
+import com.taskflow.api.dto.request.LoginRequest;
+import com.taskflow.api.dto.response.TokenResponse;
+import com.taskflow.api.exception.TooManyRequestsException;
+import com.taskflow.api.service.AuthTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoginThrottleTest {
+
+    private static final String PASSWORD = "Passw0rd1";
+
+    private final AuthenticationManager authManager = mock(AuthenticationManager.class);
+    private final AuthTokenService authTokenService = mock(AuthTokenService.class);
+
+    @Test
+    void emailLimitRejectsBeforeAuthenticationManager() {
+        AuthController controller = controller(throttle(2, 100, 4, Duration.ofMillis(100)));
+        when(authManager.authenticate(any())).thenThrow(new BadCredentialsException("mal"));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> login(controller, "ana@test.com", "wrong", "10.0.0.0"))
+                    .isInstanceOf(BadCredentialsException.class);
+        }
+        // Mismo email con otra IP y en otra grafía: el bucket es del email normalizado
+        assertThatThrownBy(() -> login(controller, " ANA@test.com", "wrong", "10.0.0.1"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(60));
+
+        verify(authManager, times(2)).authenticate(any());
+    }
+
+    @Test
+    void ipLimitRejectsBeforeAuthenticationManager() {
+        AuthController controller = controller(throttle(5, 2, 4, Duration.ofMillis(100)));
+        when(authManager.authenticate(any())).thenThrow(new BadCredentialsException("mal"));
+
+        // Un email distinto por intento: solo limita el bucket de la IP
+        for (String email : List.of("a@test.com", "b@test.com")) {
+            assertThatThrownBy(() -> login(controller, email, "wrong", "10.0.0.9"))
+                    .isInstanceOf(BadCredentialsException.class);
+        }
+        assertThatThrownBy(() -> login(controller, "c@test.com", PASSWORD, "10.0.0.9"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        verify(authManager, times(2)).authenticate(any());
+        verify(authManager, times(0)).authenticate(argThat(token -> "c@test.com".equals(token.getPrincipal())));
+    }
+
+    @Test
+    void successfulLoginRefillsEmailBucket() {
+        AuthController controller = controller(throttle(2, 100, 4, Duration.ofMillis(100)));
+        Authentication ok = new UsernamePasswordAuthenticationToken("ana@test.com", null, List.of());
+        when(authManager.authenticate(any())).thenAnswer(invocation -> {
+            Authentication token = invocation.getArgument(0);
+            if (!PASSWORD.equals(token.getCredentials())) {
+                throw new BadCredentialsException("mal");
+            }
+            return ok;
+        });
+        when(authTokenService.issue("ana@test.com")).thenReturn(TokenResponse.builder().build());
+
+        assertThatThrownBy(() -> login(controller, "ana@test.com", "wrong", "10.0.0.2"))
+                .isInstanceOf(BadCredentialsException.class);
+        login(controller, "ana@test.com", PASSWORD, "10.0.0.2");
+
+        // Sin el reinicio quedaría cero intentos; con él vuelven los dos
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> login(controller, "ana@test.com", "wrong", "10.0.0.2"))
+                    .isInstanceOf(BadCredentialsException.class);
+        }
+        assertThatThrownBy(() -> login(controller, "ana@test.com", "wrong", "10.0.0.2"))
+                .isInstanceOf(TooManyRequestsException.class);
+        verify(authManager, times(4)).authenticate(any());
+    }
+
+    @Test
+    void fullVerificationSlotsRejectAfterMaxQueueWait() throws Exception {
+        Duration maxQueueWait = Duration.ofMillis(200);
+        LoginThrottle throttle = throttle(5, 100, 1, maxQueueWait);
+        CountDownLatch verifying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> throttle.verify(() -> {
+            verifying.countDown();
+            await(release);
+            return "ok";
+        }));
+        assertThat(verifying.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> throttle.verify(() -> "no debería ejecutarse"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(1));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(maxQueueWait);
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        // Al liberarse el hueco vuelve a admitir verificaciones
+        assertThat(throttle.verify(() -> "ok")).isEqualTo("ok");
+    }
+
+    private LoginThrottle throttle(int emailCapacity, int ipCapacity, int maxConcurrent, Duration maxQueueWait) {
+        return new LoginThrottle(emailCapacity, Duration.ofMinutes(1), ipCapacity, Duration.ofMinutes(1),
+                1000, maxConcurrent, maxQueueWait, new SimpleMeterRegistry());
+    }
+
+    private AuthController controller(LoginThrottle throttle) {
+        return new AuthController(authManager, authTokenService, throttle);
+    }
+
+    private static TokenResponse login(AuthController controller, String email, String password, String ip) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.setRemoteAddr(ip);
+        return controller.login(new LoginRequest(email, password), servletRequest);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
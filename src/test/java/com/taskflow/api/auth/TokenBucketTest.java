@@ -0,0 +1,75 @@
+package com.taskflow.api.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final int CAPACITY = 5;
+    private static final Duration REFILL = Duration.ofMinutes(1);
+    private static final long INTERVAL = REFILL.toNanos();
+
+    // Reloj arbitrario (System.nanoTime puede ser negativo)
+    private static final long T0 = -1_000_000L;
+
+    @Test
+    void allowsBurstOfCapacityThenReportsWaitUntilNextToken() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, REFILL, T0);
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(bucket.tryConsume(T0)).as("intento %d", i + 1).isZero();
+        }
+        assertThat(bucket.tryConsume(T0)).isEqualTo(INTERVAL);
+        // El rechazo no consume: la espera se acorta con el tiempo
+        assertThat(bucket.tryConsume(T0 + INTERVAL / 4)).isEqualTo(INTERVAL - INTERVAL / 4);
+    }
+
+    @Test
+    void returnsOneTokenPerRefill() {
+        TokenBucket bucket = new TokenBucket(CAPACITY, REFILL, T0);
+        for (int i = 0; i < CAPACITY; i++) {
+            bucket.tryConsume(T0);
+        }
+
+        long later = T0 + INTERVAL;
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isEqualTo(INTERVAL);
+
+        long muchLater = later + 2 * INTERVAL;
+        assertThat(bucket.tryConsume(muchLater)).isZero();
+        assertThat(bucket.tryConsume(muchLater)).isZero();
+        assertThat(bucket.tryConsume(muchLater)).isPositive();
+    }
+
+    @Test
+    void idleUntilFullIsEnoughToRefillAnEmptyBucket() {
+        Duration idle = TokenBucket.idleUntilFull(CAPACITY, REFILL);
+        assertThat(idle).isEqualTo(Duration.ofMinutes(5));
+
+        TokenBucket bucket = new TokenBucket(CAPACITY, REFILL, T0);
+        for (int i = 0; i < CAPACITY; i++) {
+            bucket.tryConsume(T0);
+        }
+
+        // Tras idle sin uso se comporta como uno nuevo: descartarlo no regala intentos
+        long afterIdle = T0 + idle.toNanos();
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(bucket.tryConsume(afterIdle)).as("intento %d", i + 1).isZero();
+        }
+        assertThat(bucket.tryConsume(afterIdle)).isEqualTo(INTERVAL);
+
+        // Y un instante antes todavía no estaba lleno
+        TokenBucket drained = new TokenBucket(CAPACITY, REFILL, T0);
+        for (int i = 0; i < CAPACITY; i++) {
+            drained.tryConsume(T0);
+        }
+        long justBefore = afterIdle - 1;
+        for (int i = 0; i < CAPACITY - 1; i++) {
+            assertThat(drained.tryConsume(justBefore)).isZero();
+        }
+        assertThat(drained.tryConsume(justBefore)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,206 @@
+package com.taskflow.api.controller;
+
+import com.taskflow.api.dto.request.CreateProjectRequest;
+import com.taskflow.api.dto.request.CreateTaskRequest;
+import com.taskflow.api.dto.request.CreateUserRequest;
+import com.taskflow.api.dto.response.UserResponse;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.RefreshTokenRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.AuthTokenService;
+import com.taskflow.api.service.ProjectService;
+import com.taskflow.api.service.TaskService;
+import com.taskflow.api.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskControllerConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String accessToken;
+    private Long userId;
+    private Long projectId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        // Quien consulta no es el asignado: el test borra a este último
+        accessToken = authTokenService.issue(createUser("Lector").getEmail()).getAccessToken();
+        userId = createUser("Condicional").getId();
+        projectId = projectService.createProject(CreateProjectRequest.builder()
+                .name("Condicional")
+                .build()).getId();
+        taskId = createTask("Condicional");
+        clearInvocations(taskService);
+    }
+
+    // Otros tests borran los usuarios al terminar: no deben quedar refresh tokens que los referencien
+    @AfterEach
+    void cleanUp() {
+        refreshTokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void taskCarriesStrongETagAndAnswers304WithoutBuildingTheBody() throws Exception {
+        MvcResult first = mockMvc.perform(authorized(get("/api/tasks/{id}", taskId)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).matches("\"\\d+-[^\"]+\"");
+
+        mockMvc.perform(authorized(get("/api/tasks/{id}", taskId)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        verify(taskService).getTaskById(taskId);
+    }
+
+    @Test
+    void listCarriesWeakETagAndAnswers304WithoutBuildingTheBody() throws Exception {
+        String etag = listETag();
+        assertThat(etag).matches("W/\"[^\"]+\"");
+
+        mockMvc.perform(list().header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        verify(taskService).getAllTasks(any(), any(), any(), anyInt());
+
+        // Una tarea nueva en el filtro invalida el ETag de la lista
+        createTask("Otra");
+        clearInvocations(taskService);
+        mockMvc.perform(list().header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        verify(taskService).getAllTasks(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void etagsChangeWhenJoinedUserOrProjectChanges() throws Exception {
+        String taskETag = taskETag();
+        String listETag = listETag();
+
+        // La respuesta incluye el nombre del usuario: renombrarlo cambia la representación
+        inTransaction(() -> userRepository.findById(userId).orElseThrow().setName("Renombrado"));
+        assertRevalidationFails(taskETag, listETag);
+        taskETag = taskETag();
+        listETag = listETag();
+
+        inTransaction(() -> projectRepository.findById(projectId).orElseThrow().setName("Renombrado"));
+        assertRevalidationFails(taskETag, listETag);
+        taskETag = taskETag();
+        listETag = listETag();
+
+        // Usuario borrado: la tarea deja de mostrarlo aunque su fila no cambie
+        userService.deleteUser(userId);
+        assertRevalidationFails(taskETag, listETag);
+    }
+
+    private void assertRevalidationFails(String taskETag, String listETag) throws Exception {
+        mockMvc.perform(authorized(get("/api/tasks/{id}", taskId)).header(HttpHeaders.IF_NONE_MATCH, taskETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(taskETag)));
+        mockMvc.perform(list().header(HttpHeaders.IF_NONE_MATCH, listETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(listETag)));
+    }
+
+    private String taskETag() throws Exception {
+        return mockMvc.perform(authorized(get("/api/tasks/{id}", taskId)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private String listETag() throws Exception {
+        return mockMvc.perform(list())
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private MockHttpServletRequestBuilder list() {
+        return authorized(get("/api/tasks").param("projectId", projectId.toString()));
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+    }
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+
+    private UserResponse createUser(String name) {
+        return userService.createUser(CreateUserRequest.builder()
+                .name(name)
+                .email(name.toLowerCase() + "-" + UUID.randomUUID() + "@taskflow.dev")
+                .password("password123")
+                .build());
+    }
+
+    private Long createTask(String title) {
+        return taskService.createTask(CreateTaskRequest.builder()
+                .title(title)
+                .status(TaskStatus.TODO)
+                .priority(Priority.MEDIUM)
+                .userId(userId)
+                .projectId(projectId)
+                .build()).getId();
+    }
+}
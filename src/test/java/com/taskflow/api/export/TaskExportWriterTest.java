@@ -0,0 +1,87 @@
+package com.taskflow.api.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.response.TaskResponse;
+import com.taskflow.api.mapper.TaskMapper;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.projection.TaskView;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskExportWriterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+
+    private static final TaskView FULL = new TaskView(1L, "Revisar, \"urgente\"", "Línea 1\r\nLínea 2\nñ",
+            TaskStatus.IN_PROGRESS, Priority.HIGH, LocalDate.of(2026, 2, 1), 7L, "Ana", 9L, "Web",
+            CREATED_AT, CREATED_AT.plusHours(1));
+
+    private static final TaskView SPARSE = new TaskView(2L, "Sin datos", null,
+            TaskStatus.TODO, Priority.LOW, null, null, null, null, null, CREATED_AT, null);
+
+    @Test
+    void escapeQuotesOnlyFieldsThatNeedIt() {
+        assertThat(CsvTaskExportWriter.escape("simple")).isEqualTo("simple");
+        assertThat(CsvTaskExportWriter.escape("")).isEqualTo("");
+        assertThat(CsvTaskExportWriter.escape("con espacios; y punto y coma")).isEqualTo("con espacios; y punto y coma");
+        assertThat(CsvTaskExportWriter.escape("a,b")).isEqualTo("\"a,b\"");
+        assertThat(CsvTaskExportWriter.escape("dice \"hola\"")).isEqualTo("\"dice \"\"hola\"\"\"");
+        assertThat(CsvTaskExportWriter.escape("\"")).isEqualTo("\"\"\"\"");
+        assertThat(CsvTaskExportWriter.escape("a\nb")).isEqualTo("\"a\nb\"");
+        assertThat(CsvTaskExportWriter.escape("a\rb")).isEqualTo("\"a\rb\"");
+        assertThat(CsvTaskExportWriter.escape("a\r\nb")).isEqualTo("\"a\r\nb\"");
+    }
+
+    @Test
+    void headerListsTheColumnsInRowOrder() {
+        String components = Arrays.stream(TaskView.class.getRecordComponents())
+                .map(RecordComponent::getName)
+                .collect(Collectors.joining(","));
+        assertThat(CsvTaskExportWriter.HEADER).isEqualTo(components);
+    }
+
+    @Test
+    void csvRowsUseCrlfAndLeaveNullFieldsEmpty() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvTaskExportWriter writer = new CsvTaskExportWriter(out);
+        writer.write(FULL);
+        writer.write(SPARSE);
+        writer.close();
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(CsvTaskExportWriter.HEADER + "\r\n"
+                + "1,\"Revisar, \"\"urgente\"\"\",\"Línea 1\r\nLínea 2\nñ\",IN_PROGRESS,HIGH,2026-02-01,"
+                + "7,Ana,9,Web,2026-01-02T03:04:05,2026-01-02T04:04:05\r\n"
+                + "2,Sin datos,,TODO,LOW,,,,,,2026-01-02T03:04:05,\r\n");
+    }
+
+    @Test
+    void everyNdjsonLineParsesAsTaskResponse() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NdjsonTaskExportWriter writer = new NdjsonTaskExportWriter(objectMapper, out);
+        writer.write(FULL);
+        writer.write(SPARSE);
+        writer.close();
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("\n");
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+
+        assertThat(objectMapper.readValue(lines.get(0), TaskResponse.class)).isEqualTo(TaskMapper.toResponse(FULL));
+        assertThat(objectMapper.readValue(lines.get(1), TaskResponse.class)).isEqualTo(TaskMapper.toResponse(SPARSE));
+    }
+}
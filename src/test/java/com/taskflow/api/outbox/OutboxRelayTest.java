@@ -0,0 +1,139 @@
+package com.taskflow.api.outbox;
+
+import com.taskflow.api.dto.request.CreateProjectRequest;
+import com.taskflow.api.dto.request.CreateTaskRequest;
+import com.taskflow.api.dto.request.CreateUserRequest;
+import com.taskflow.api.dto.response.ProjectResponse;
+import com.taskflow.api.dto.response.TaskResponse;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.OutboxEventRepository;
+import com.taskflow.api.service.ProjectService;
+import com.taskflow.api.service.TaskService;
+import com.taskflow.api.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "outbox.sink=memory",
+        "outbox.relay.linger=0s",
+        "outbox.relay.backoff=0s",
+        // Solo la pasada inicial: el test llama al relay directamente
+        "outbox.relay.poll-interval=PT1H"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long userId;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userService.createUser(CreateUserRequest.builder()
+                .name("Outbox")
+                .email("outbox-" + UUID.randomUUID() + "@test.com")
+                .password("Passw0rd1")
+                .build()).getId();
+        ProjectResponse project = projectService.createProject(CreateProjectRequest.builder()
+                .name("Outbox")
+                .build());
+        projectId = project.getId();
+        relay.relay();
+        sink.clear();
+    }
+
+    @Test
+    void deliversEventsWrittenWithTheChange() {
+        TaskResponse task = taskService.createTask(task("Entregar"));
+        taskService.deleteTask(task.getId());
+        assertThat(pending(task.getId())).isEqualTo(2);
+
+        relay.relay();
+
+        assertThat(delivered(task.getId()))
+                .extracting(OutboxMessage::eventType)
+                .containsExactly("task.created", "task.deleted");
+        assertThat(delivered(task.getId()).get(0).payload())
+                .contains("\"status\":\"TODO\"", "\"projectId\":" + projectId);
+        assertThat(pending(task.getId())).isZero();
+    }
+
+    @Test
+    void rolledBackChangeLeavesNoEvent() {
+        TaskResponse task = new TransactionTemplate(transactionManager).execute(status -> {
+            TaskResponse created = taskService.createTask(task("Deshacer"));
+            status.setRollbackOnly();
+            return created;
+        });
+
+        relay.relay();
+
+        assertThat(pending(task.getId())).isZero();
+        assertThat(delivered(task.getId())).isEmpty();
+    }
+
+    @Test
+    void failedBatchIsDeliveredAgain() {
+        TaskResponse task = taskService.createTask(task("Reintentar"));
+        sink.failNext(1);
+
+        relay.relay();
+        assertThat(delivered(task.getId())).isEmpty();
+        assertThat(pending(task.getId())).isEqualTo(1);
+
+        relay.relay();
+        assertThat(delivered(task.getId())).hasSize(1);
+        assertThat(pending(task.getId())).isZero();
+    }
+
+    private CreateTaskRequest task(String title) {
+        return CreateTaskRequest.builder()
+                .title(title)
+                .status(TaskStatus.TODO)
+                .priority(Priority.MEDIUM)
+                .userId(userId)
+                .projectId(projectId)
+                .build();
+    }
+
+    private List<OutboxMessage> delivered(Long taskId) {
+        return sink.delivered().stream()
+                .filter(message -> message.aggregateType().equals("task") && message.aggregateId().equals(taskId))
+                .toList();
+    }
+
+    private long pending(Long taskId) {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getAggregateType().equals("task") && event.getAggregateId().equals(taskId))
+                .count();
+    }
+}
@@ -0,0 +1,327 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.request.TaskCursor;
+import com.taskflow.api.dto.request.TaskFilter;
+import com.taskflow.api.dto.request.TaskSort;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Role;
+import com.taskflow.api.model.enums.TaskStatus;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ejecuta EXPLAIN sobre el SQL que genera Hibernate para cada consulta de los
+ * repositorios y falla si alguna recorre la tabla completa. Corre contra la base
+ * del perfil activo: H2 en local y PostgreSQL en CI (perfil test), donde se
+ * desactiva el seq scan para que el plan no dependa del volumen de datos de prueba.
+ * Sin seq scan, PostgreSQL recorrería pk_tasks entero si el índice parcial faltase o
+ * no encajase con el predicado de la consulta, así que allí se exige además el
+ * índice esperado. H2 no tiene índices parciales y elige también los que crea para
+ * las claves foráneas: basta con que no haya table scan.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskRepositoryIndexUsageTest {
+
+    private static final long FIRST_TASK_ID = 1_000_000L;
+    private static final int TASKS = 20_000;
+    private static final int OWNERS = 50;
+    private static final int PAGE = 51;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Project> projects = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < OWNERS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .name("Usuario " + i)
+                    .email("explain-" + i + "@taskflow.test")
+                    .password("secret")
+                    .role(Role.USER)
+                    .build()));
+            projects.add(projectRepository.save(Project.builder()
+                    .name("Proyecto " + i)
+                    .build()));
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDate baseDate = LocalDate.of(2026, 1, 1);
+        List<Object[]> rows = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            rows.add(new Object[]{
+                    FIRST_TASK_ID + i,
+                    now,
+                    now,
+                    i % 10 == 0 ? now : null,
+                    "Tarea " + i,
+                    status(i).name(),
+                    "MEDIUM",
+                    i % 5 == 0 ? null : Date.valueOf(baseDate.plusDays(i % 365)),
+                    users.get(i % OWNERS).getId(),
+                    projects.get((i / 7) % OWNERS).getId()
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (id, created_at, updated_at, deleted_at, title, status, "
+                + "priority, due_date, user_id, project_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows, new int[]{
+                Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR,
+                Types.VARCHAR, Types.VARCHAR, Types.DATE, Types.BIGINT, Types.BIGINT});
+
+        if (isPostgres()) {
+            jdbcTemplate.execute("ANALYZE tasks");
+        }
+    }
+
+    // Reparto de una base real: la mayoría de tareas terminadas, 15% en curso y 1%
+    // pendientes. Con un estado frecuente, recorrer pk_tasks en orden de id y filtrar es
+    // tan barato como el índice por estado (PostgreSQL lo elige con razón para una página
+    // de 51), y el test no distinguiría si el índice existe
+    private static TaskStatus status(int i) {
+        if (i % 100 == 1) {
+            return TaskStatus.TODO;
+        }
+        return switch (i % 20) {
+            case 2, 3, 4 -> TaskStatus.IN_PROGRESS;
+            default -> TaskStatus.DONE;
+        };
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE id >= ?", FIRST_TASK_ID);
+        projectRepository.deleteAllInBatch(projects);
+        userRepository.deleteAllInBatch(users);
+    }
+
+    @Test
+    void findViewByIdUsesIndex() {
+        assertUsesIndex("pk_tasks", () -> taskRepository.findViewById(FIRST_TASK_ID + 1), FIRST_TASK_ID + 1);
+    }
+
+    @Test
+    void findByStatusUsesIndex() {
+        assertUsesIndex("idx_tasks_status_id", () -> taskRepository.findByStatus(TaskStatus.IN_PROGRESS), "IN_PROGRESS");
+    }
+
+    @Test
+    void findByAssignedUserIdUsesIndex() {
+        Long userId = users.get(3).getId();
+        assertUsesIndex("idx_tasks_user_id", () -> taskRepository.findByAssignedUserId(userId), userId);
+    }
+
+    @Test
+    void findByProjectIdUsesIndex() {
+        Long projectId = projects.get(3).getId();
+        assertUsesIndex("idx_tasks_project_status_id", () -> taskRepository.findByProjectId(projectId), projectId);
+    }
+
+    @Test
+    void pageByStatusAfterCursorUsesIndex() {
+        TaskFilter filter = TaskFilter.builder().status(TaskStatus.TODO).build();
+        TaskCursor after = TaskCursor.after(TaskSort.ID, null, FIRST_TASK_ID + 500);
+        assertUsesIndex("idx_tasks_status_id", () -> taskRepository.findPage(filter, TaskSort.ID, after, PAGE),
+                "TODO", FIRST_TASK_ID + 500, PAGE);
+    }
+
+    @Test
+    void pageByProjectAndStatusUsesIndex() {
+        Long projectId = projects.get(5).getId();
+        TaskFilter filter = TaskFilter.builder().status(TaskStatus.DONE).projectId(projectId).build();
+        assertUsesIndex("idx_tasks_project_status_id", () -> taskRepository.findPage(filter, TaskSort.ID, null, PAGE),
+                "DONE", projectId, PAGE);
+    }
+
+    @Test
+    void pageByUserSortedByDueDateUsesIndex() {
+        Long userId = users.get(7).getId();
+        TaskFilter filter = TaskFilter.builder().userId(userId).build();
+        // Según estadísticas: filtrar por usuario y ordenar, o recorrer por fecha filtrando
+        assertUsesAnyIndex(List.of("idx_tasks_user_id", "idx_tasks_due_date_id"),
+                () -> taskRepository.findPage(filter, TaskSort.DUE_DATE, null, PAGE), userId, PAGE);
+    }
+
+    @Test
+    void pageByDueDateRangeUsesIndex() {
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 7);
+        TaskFilter filter = TaskFilter.builder().dueFrom(from).dueTo(to).build();
+        assertUsesIndex("idx_tasks_due_date_id", () -> taskRepository.findPage(filter, TaskSort.DUE_DATE, null, PAGE),
+                Date.valueOf(from), Date.valueOf(to), PAGE);
+    }
+
+    @Test
+    void exportStreamByStatusUsesIndex() {
+        TaskFilter filter = TaskFilter.builder().status(TaskStatus.TODO).build();
+        assertUsesIndex("idx_tasks_status_id", () -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<?> tasks = taskRepository.streamAll(filter, 100)) {
+                tasks.findFirst();
+            }
+        }), "TODO");
+    }
+
+    @Test
+    void projectViewCountsUseIndex() {
+        Long projectId = projects.get(9).getId();
+        assertUsesIndex("idx_tasks_project_status_id", () -> projectRepository.findViewById(projectId), projectId);
+    }
+
+    @Test
+    void credentialsByEmailUseIndex() {
+        String email = users.get(11).getEmail();
+        assertUsesIndex("uk_users_email", () -> userRepository.findCredentialsByEmail(email), email);
+    }
+
+    /**
+     * Ejecuta la consulta para capturar su SQL y repite ese SQL con EXPLAIN y los
+     * mismos valores de parámetro, en el orden en que aparecen.
+     */
+    private void assertUsesIndex(String index, Runnable query, Object... params) {
+        assertUsesAnyIndex(List.of(index), query, params);
+    }
+
+    private void assertUsesAnyIndex(List<String> indexes, Runnable query, Object... params) {
+        sqlCapture.clear();
+        query.run();
+        String sql = sqlCapture.lastSelect();
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as("parámetros de %s", sql)
+                .isEqualTo(params.length);
+
+        String plan = explain(sql, params);
+        if (isPostgres()) {
+            assertThat(plan)
+                    .as("plan de %s", sql)
+                    .containsAnyOf(indexes.toArray(String[]::new))
+                    .doesNotContain("Seq Scan");
+        } else {
+            assertThat(plan)
+                    .as("plan de %s", sql)
+                    .doesNotContain(".tableScan");
+        }
+    }
+
+    private String explain(String sql, Object... params) {
+        boolean postgres = isPostgres();
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            if (postgres) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET enable_seqscan = off");
+                }
+            }
+            StringBuilder plan = new StringBuilder();
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < params.length; i++) {
+                    statement.setObject(i + 1, params[i]);
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+            } finally {
+                if (postgres) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("RESET enable_seqscan");
+                    }
+                }
+            }
+            return plan.toString();
+        });
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equals(product);
+    }
+
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        // Solo el hilo del test: los jobs programados también pasan por el inspector
+        private volatile Thread owner;
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == owner) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        void clear() {
+            owner = Thread.currentThread();
+            statements.clear();
+        }
+
+        String lastSelect() {
+            return statements.stream()
+                    .filter(Objects::nonNull)
+                    .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                    .reduce((first, second) -> second)
+                    .orElseThrow(() -> new AssertionError("La consulta no ejecutó ningún SELECT"));
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.dto.request.CreateUserRequest;
+import com.taskflow.api.dto.response.TokenResponse;
+import com.taskflow.api.dto.response.UserResponse;
+import com.taskflow.api.repository.RefreshTokenRepository;
+import com.taskflow.api.security.JwtService;
+import com.taskflow.api.security.TokenRevocationList;
+import com.taskflow.api.service.AuthTokenService;
+import com.taskflow.api.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class AuthTokenServiceImplTest {
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private UserResponse user;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.createUser(CreateUserRequest.builder()
+                .name("Auth")
+                .email("auth-" + UUID.randomUUID() + "@taskflow.dev")
+                .password("password123")
+                .build());
+    }
+
+    // Otros tests borran los usuarios al terminar: no deben quedar refresh tokens que los referencien
+    @AfterEach
+    void cleanUp() {
+        refreshTokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void refreshRotatesAndReuseRevokesTheFamily() {
+        TokenResponse login = authTokenService.issue(user.getEmail());
+        TokenResponse rotated = authTokenService.refresh(login.getRefreshToken());
+
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+        assertThat(jwtService.verify(rotated.getAccessToken()).userId()).isEqualTo(user.getId());
+
+        // El refresh token original ya se usó: se revoca también el que lo sustituyó
+        assertThatThrownBy(() -> authTokenService.refresh(login.getRefreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> authTokenService.refresh(rotated.getRefreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void logoutRevokesAccessTokenAndSession() {
+        TokenResponse login = authTokenService.issue(user.getEmail());
+        TokenResponse other = authTokenService.issue(user.getEmail());
+
+        authTokenService.logout(login.getRefreshToken(), login.getAccessToken());
+
+        assertThat(revocationList.isRevoked(jwtService.verify(login.getAccessToken()))).isTrue();
+        assertThat(revocationList.isRevoked(jwtService.verify(other.getAccessToken()))).isFalse();
+        assertThatThrownBy(() -> authTokenService.refresh(login.getRefreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(authTokenService.refresh(other.getRefreshToken()).getAccessToken()).isNotBlank();
+    }
+
+    @Test
+    void deletingUserRevokesAllTokens() {
+        TokenResponse login = authTokenService.issue(user.getEmail());
+
+        userService.deleteUser(user.getId());
+
+        assertThat(revocationList.isRevoked(jwtService.verify(login.getAccessToken()))).isTrue();
+        assertThatThrownBy(() -> authTokenService.refresh(login.getRefreshToken()))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+}
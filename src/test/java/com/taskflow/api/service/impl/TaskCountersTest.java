@@ -0,0 +1,115 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.dto.response.TaskCounts;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.projection.TaskSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskCountersTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+    private static final Long PROJECT = 1L;
+    private static final Long OTHER_PROJECT = 2L;
+    private static final Long USER = 10L;
+
+    private final TaskCounters counters = new TaskCounters();
+
+    @Test
+    void createStatusChangeAndDeleteMoveTheirBuckets() {
+        TaskSnapshot created = task(1L, TaskStatus.TODO, TODAY.minusDays(1), USER, PROJECT);
+        counters.add(created, 1);
+        counters.add(task(2L, TaskStatus.IN_PROGRESS, TODAY.plusDays(1), null, PROJECT), 1);
+
+        assertCounts(counters.total(TODAY), 2, 1, 1, 0, 1);
+        assertCounts(counters.byProject(TODAY).get(PROJECT), 2, 1, 1, 0, 1);
+        assertCounts(counters.byUser(TODAY).get(USER), 1, 1, 0, 0, 1);
+
+        // Completarla la saca de su estado anterior y de las vencidas
+        TaskSnapshot done = created.withStatus(TaskStatus.DONE);
+        apply(created, done);
+        assertCounts(counters.total(TODAY), 2, 0, 1, 1, 0);
+        assertCounts(counters.byUser(TODAY).get(USER), 1, 0, 0, 1, 0);
+
+        apply(done, null);
+        assertCounts(counters.total(TODAY), 1, 0, 1, 0, 0);
+        // Los ámbitos que se quedan sin tareas desaparecen de la respuesta
+        assertThat(counters.byUser(TODAY)).isEmpty();
+        assertThat(counters.byProject(TODAY)).containsOnlyKeys(PROJECT);
+    }
+
+    @Test
+    void dueDateProjectAndAssigneeChangesMoveTheirBuckets() {
+        TaskSnapshot before = task(1L, TaskStatus.TODO, TODAY.plusDays(3), USER, PROJECT);
+        counters.add(before, 1);
+        assertThat(counters.total(TODAY).getOverdue()).isZero();
+
+        TaskSnapshot overdue = task(1L, TaskStatus.TODO, TODAY.minusDays(3), USER, PROJECT);
+        apply(before, overdue);
+        assertCounts(counters.total(TODAY), 1, 1, 0, 0, 1);
+
+        TaskSnapshot undated = task(1L, TaskStatus.TODO, null, USER, PROJECT);
+        apply(overdue, undated);
+        assertCounts(counters.total(TODAY), 1, 1, 0, 0, 0);
+
+        TaskSnapshot moved = task(1L, TaskStatus.TODO, TODAY.minusDays(1), null, OTHER_PROJECT);
+        apply(undated, moved);
+        assertThat(counters.byProject(TODAY)).containsOnlyKeys(OTHER_PROJECT);
+        assertCounts(counters.byProject(TODAY).get(OTHER_PROJECT), 1, 1, 0, 0, 1);
+        assertThat(counters.byUser(TODAY)).isEmpty();
+    }
+
+    @Test
+    void overdueRollsOverAtMidnight() {
+        LocalDate dueDate = TODAY;
+        counters.add(task(1L, TaskStatus.TODO, dueDate, USER, PROJECT), 1);
+        counters.add(task(2L, TaskStatus.DONE, dueDate, USER, PROJECT), 1);
+
+        // Vence hoy: aún no está vencida; mañana sí, sin ningún evento entre medias
+        assertThat(counters.total(TODAY).getOverdue()).isZero();
+        assertThat(counters.total(TODAY.plusDays(1)).getOverdue()).isEqualTo(1);
+        assertThat(counters.byProject(TODAY.plusDays(1)).get(PROJECT).getOverdue()).isEqualTo(1);
+        assertThat(counters.byUser(TODAY.plusDays(1)).get(USER).getOverdue()).isEqualTo(1);
+    }
+
+    @Test
+    void driftIsZeroForEqualCountersAndCountsEachDifference() {
+        TaskCounters same = new TaskCounters();
+        for (TaskCounters target : new TaskCounters[] {counters, same}) {
+            target.add(task(1L, TaskStatus.TODO, TODAY.minusDays(1), USER, PROJECT), 1);
+            target.add(task(2L, TaskStatus.DONE, null, null, OTHER_PROJECT), 1);
+        }
+        assertThat(TaskCounters.drift(counters, same, TODAY)).isZero();
+        assertThat(TaskCounters.drift(counters, new TaskCounters(), TODAY)).isPositive();
+
+        // Una tarea vencida que falta: estado y vencidas en total, proyecto y usuario
+        same.add(task(3L, TaskStatus.TODO, TODAY.minusDays(2), USER, PROJECT), 1);
+        assertThat(TaskCounters.drift(counters, same, TODAY)).isEqualTo(6);
+        assertThat(TaskCounters.drift(same, counters, TODAY)).isEqualTo(6);
+    }
+
+    private void apply(TaskSnapshot before, TaskSnapshot after) {
+        if (before != null) {
+            counters.add(before, -1);
+        }
+        if (after != null) {
+            counters.add(after, 1);
+        }
+    }
+
+    private static void assertCounts(TaskCounts counts, long total, long todo, long inProgress, long done,
+                                     long overdue) {
+        assertThat(counts.getTotal()).isEqualTo(total);
+        assertThat(counts.getByStatus()).isEqualTo(Map.of(
+                TaskStatus.TODO, todo, TaskStatus.IN_PROGRESS, inProgress, TaskStatus.DONE, done));
+        assertThat(counts.getOverdue()).isEqualTo(overdue);
+    }
+
+    private static TaskSnapshot task(Long id, TaskStatus status, LocalDate dueDate, Long userId, Long projectId) {
+        return new TaskSnapshot(id, 0, status, dueDate, userId, projectId);
+    }
+}
@@ -0,0 +1,74 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.projection.TaskSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEventRingTest {
+
+    private static final String EPOCH = "lx3k9a";
+    private static final int CAPACITY = 4;
+
+    private final TaskEventRing ring = new TaskEventRing(EPOCH, CAPACITY);
+
+    @Test
+    void idsFromAnotherEpochOrMalformedCannotBeResumed() {
+        append(2);
+
+        assertThat(ring.since("otra-1")).isNull();
+        assertThat(ring.since("lx3k9b-1")).isNull();
+        assertThat(ring.since(EPOCH)).isNull();
+        assertThat(ring.since(EPOCH + "-")).isNull();
+        assertThat(ring.since(EPOCH + "-uno")).isNull();
+        assertThat(ring.since(EPOCH + "--1")).isNull();
+        assertThat(ring.since("")).isNull();
+        // Un id que este nodo aún no ha emitido tampoco es suyo
+        assertThat(ring.since(EPOCH + "-3")).isNull();
+    }
+
+    @Test
+    void resumesUpToCapacityMissedEvents() {
+        assertThat(ring.lastId()).isEqualTo(EPOCH + "-0");
+        assertThat(ring.since(ring.lastId())).isEmpty();
+
+        append(CAPACITY);
+        assertThat(sequences(ring.since(EPOCH + "-0"))).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(ring.since(ring.lastId())).isEmpty();
+
+        // Uno más y el primero perdido ya está sobrescrito
+        append(1);
+        assertThat(ring.since(EPOCH + "-0")).isNull();
+        assertThat(sequences(ring.since(EPOCH + "-1"))).containsExactly(2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void wrappedBufferReplaysInOrder() {
+        append(3 * CAPACITY + 2);
+
+        List<StreamedEvent> missed = ring.since(EPOCH + "-11");
+        assertThat(sequences(missed)).containsExactly(12L, 13L, 14L);
+        assertThat(missed).extracting(StreamedEvent::id)
+                .containsExactly(EPOCH + "-12", EPOCH + "-13", EPOCH + "-14");
+        assertThat(missed).extracting(event -> event.after().id()).containsExactly(12L, 13L, 14L);
+
+        assertThat(ring.lastSequence()).isEqualTo(14);
+        assertThat(ring.since(EPOCH + "-9")).isNull();
+        assertThat(sequences(ring.since(EPOCH + "-10"))).containsExactly(11L, 12L, 13L, 14L);
+    }
+
+    private void append(int count) {
+        for (int i = 0; i < count; i++) {
+            long taskId = ring.lastSequence() + 1;
+            ring.append("created", null,
+                    new TaskSnapshot(taskId, 0L, TaskStatus.TODO, null, 1L, 1L), "{\"taskId\":" + taskId + "}");
+        }
+    }
+
+    private static List<Long> sequences(List<StreamedEvent> events) {
+        return events.stream().map(StreamedEvent::sequence).toList();
+    }
+}
@@ -0,0 +1,116 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.dto.request.TaskFilter;
+import com.taskflow.api.dto.request.TaskSort;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.Role;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskServiceImplQueryCountTest {
+
+    private static final int TASKS = 40;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<User> users = new ArrayList<>();
+    private final List<Project> projects = new ArrayList<>();
+    private Long anyTaskId;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int i = 0; i < 4; i++) {
+            users.add(userRepository.save(User.builder()
+                    .name("Usuario " + i)
+                    .email("query-count-" + i + "@taskflow.test")
+                    .password("secret")
+                    .role(Role.USER)
+                    .build()));
+            projects.add(projectRepository.save(Project.builder()
+                    .name("Proyecto " + i)
+                    .build()));
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder()
+                    .title("Tarea " + i)
+                    .status(TaskStatus.values()[i % TaskStatus.values().length])
+                    .priority(Priority.MEDIUM)
+                    .dueDate(LocalDate.of(2026, 1, 1).plusDays(i % 7))
+                    .assignedUser(users.get(i % users.size()))
+                    .project(projects.get(i % projects.size()))
+                    .build());
+        }
+        anyTaskId = taskRepository.saveAll(tasks).get(0).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void listingRunsASingleQueryRegardlessOfPageSize() {
+        assertThat(statementsFor(() -> taskService.getAllTasks(new TaskFilter(), TaskSort.ID, null, 5)))
+                .isEqualTo(1);
+        assertThat(statementsFor(() -> taskService.getAllTasks(new TaskFilter(), TaskSort.DUE_DATE, null, TASKS)))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void filteredReadPathsRunASingleQuery() {
+        Long userId = users.get(0).getId();
+        Long projectId = projects.get(0).getId();
+
+        assertThat(statementsFor(() -> taskService.getTaskById(anyTaskId))).isEqualTo(1);
+        assertThat(statementsFor(() -> taskRepository.findByProjectId(projectId))).isEqualTo(1);
+        assertThat(statementsFor(() -> taskRepository.findByAssignedUserId(userId))).isEqualTo(1);
+        assertThat(statementsFor(() -> taskRepository.findByStatus(TaskStatus.TODO))).isEqualTo(1);
+    }
+
+    private long statementsFor(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,271 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.controller.TaskController;
+import com.taskflow.api.dto.request.UpdateTaskRequest;
+import com.taskflow.api.dto.response.TaskResponse;
+import com.taskflow.api.exception.PreconditionFailedException;
+import com.taskflow.api.model.Project;
+import com.taskflow.api.model.Task;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.Role;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.ProjectRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.taskflow.api.service.impl.TaskServiceImplUpdateConflictTest$CapturedStatements"
+})
+class TaskServiceImplUpdateConflictTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskController taskController;
+
+    @SpyBean
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Escritura de otro cliente que se ejecuta justo después de la lectura de updateTask
+    private final AtomicReference<Runnable> concurrentWriter = new AtomicReference<>();
+
+    private Statistics statistics;
+    private Long taskId;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User user = userRepository.save(User.builder()
+                .name("Usuario conflictos")
+                .email("update-conflict@taskflow.test")
+                .password("secret")
+                .role(Role.USER)
+                .build());
+        Project project = projectRepository.save(Project.builder()
+                .name("Proyecto conflictos")
+                .build());
+        taskId = taskRepository.save(Task.builder()
+                .title("Original")
+                .description("Descripción original")
+                .status(TaskStatus.TODO)
+                .priority(Priority.MEDIUM)
+                .dueDate(LocalDate.of(2026, 1, 1))
+                .assignedUser(user)
+                .project(project)
+                .build()).getId();
+
+        // El espía de un repositorio (proxy de interfaz) delega en él con su respuesta por defecto
+        Answer<?> repository = mockingDetails(taskRepository).getMockCreationSettings().getDefaultAnswer();
+        Answer<Object> readThenInterleave = invocation -> {
+            Object read = repository.answer(invocation);
+            Runnable writer = concurrentWriter.getAndSet(null);
+            if (writer != null) {
+                CompletableFuture.runAsync(writer).join();
+            }
+            return read;
+        };
+        doAnswer(readThenInterleave).when(taskRepository).findSnapshotById(any());
+        doAnswer(readThenInterleave).when(taskRepository).findById(any());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        concurrentWriter.set(null);
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void staleIfMatchIsRejectedOnBothPaths() {
+        String staleETag = currentETag();
+        patch(UpdateTaskRequest.builder().title("Cambiada").build(), "*");
+
+        assertThatThrownBy(() -> patch(status(TaskStatus.DONE), staleETag))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> patch(UpdateTaskRequest.builder().priority(Priority.HIGH).build(), staleETag))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        assertThat(column("status")).isEqualTo("TODO");
+        assertThat(column("priority")).isEqualTo("MEDIUM");
+    }
+
+    @Test
+    void weakOrMalformedIfMatchIsRejected() {
+        String etag = currentETag();
+        String unquoted = etag.substring(1, etag.length() - 1);
+
+        for (String ifMatch : List.of("W/" + etag, unquoted, "\"", "\"no-es-una-version\"", etag + ", " + etag)) {
+            assertThatThrownBy(() -> patch(status(TaskStatus.DONE), ifMatch))
+                    .as(ifMatch)
+                    .isInstanceOf(PreconditionFailedException.class);
+        }
+        assertThat(version()).isZero();
+    }
+
+    @Test
+    void currentOrWildcardIfMatchIsAccepted() {
+        ResponseEntity<TaskResponse> response = patch(status(TaskStatus.IN_PROGRESS), currentETag());
+        assertThat(response.getBody().getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(response.getHeaders().getETag()).startsWith("\"1-");
+
+        // El ETag devuelto por el PATCH sirve para el siguiente
+        patch(UpdateTaskRequest.builder().title("Siguiente").build(), response.getHeaders().getETag());
+        patch(status(TaskStatus.DONE), "*");
+        patch(UpdateTaskRequest.builder().title("Sin condición").build(), null);
+
+        assertThat(version()).isEqualTo(4);
+    }
+
+    @Test
+    void concurrentStatusWriteAnswersConflict() {
+        // Ambos leen la versión 0; el segundo UPDATE condicionado no encuentra la fila
+        concurrentWriter.set(() -> taskService.updateTask(taskId, status(TaskStatus.DONE), null));
+
+        assertThatThrownBy(() -> taskService.updateTask(taskId, status(TaskStatus.IN_PROGRESS), null))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(column("status")).isEqualTo("DONE");
+        assertThat(version()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentEntityWriteAnswersConflict() {
+        concurrentWriter.set(() -> taskService.updateTask(taskId,
+                UpdateTaskRequest.builder().title("Primero").build(), null));
+
+        assertThatThrownBy(() -> taskService.updateTask(taskId,
+                UpdateTaskRequest.builder().title("Segundo").priority(Priority.LOW).build(), null))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(column("title")).isEqualTo("Primero");
+        assertThat(column("priority")).isEqualTo("MEDIUM");
+        assertThat(version()).isEqualTo(1);
+    }
+
+    @Test
+    void unchangedValuesIssueNoUpdate() {
+        statistics.clear();
+        CapturedStatements.clear();
+
+        taskService.updateTask(taskId, status(TaskStatus.TODO), null);
+        taskService.updateTask(taskId, UpdateTaskRequest.builder()
+                .title("Original")
+                .priority(Priority.MEDIUM)
+                .dueDate(LocalDate.of(2026, 1, 1))
+                .build(), null);
+
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(CapturedStatements.updates()).isEmpty();
+        assertThat(version()).isZero();
+    }
+
+    @Test
+    void updateContainsOnlyChangedColumns() {
+        CapturedStatements.clear();
+
+        taskService.updateTask(taskId, UpdateTaskRequest.builder()
+                .title("Nueva")
+                .priority(Priority.MEDIUM)
+                .build(), null);
+
+        assertThat(CapturedStatements.updates()).singleElement().satisfies(sql -> {
+            String columns = sql.substring(sql.indexOf(" set ") + 5, sql.indexOf(" where "));
+            assertThat(columns).contains("title").contains("version").contains("updated_at");
+            assertThat(columns).doesNotContain("description", "status", "priority", "due_date",
+                    "user_id", "project_id", "created_at");
+        });
+        assertThat(column("description")).isEqualTo("Descripción original");
+    }
+
+    private ResponseEntity<TaskResponse> patch(UpdateTaskRequest request, String ifMatch) {
+        return taskController.updateTask(taskId, request, ifMatch);
+    }
+
+    private String currentETag() {
+        return "\"" + taskService.getTaskVersion(taskId) + "\"";
+    }
+
+    private static UpdateTaskRequest status(TaskStatus status) {
+        return UpdateTaskRequest.builder().status(status).build();
+    }
+
+    private long version() {
+        return jdbcTemplate.queryForObject("SELECT version FROM tasks WHERE id = ?", Long.class, taskId);
+    }
+
+    private String column(String name) {
+        return jdbcTemplate.queryForObject("SELECT " + name + " FROM tasks WHERE id = ?", String.class, taskId);
+    }
+
+    /** Registra el SQL que Hibernate envía, para comprobar las columnas de los UPDATE. */
+    public static final class CapturedStatements implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+            }
+            return sql;
+        }
+
+        static void clear() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+
+        static List<String> updates() {
+            synchronized (STATEMENTS) {
+                return STATEMENTS.stream().filter(sql -> sql.startsWith("update tasks ")).toList();
+            }
+        }
+    }
+}
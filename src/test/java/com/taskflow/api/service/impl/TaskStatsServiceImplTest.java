@@ -0,0 +1,80 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.dto.response.TaskStatsResponse;
+import com.taskflow.api.event.TaskChangedEvent;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.projection.TaskCountRow;
+import com.taskflow.api.repository.projection.TaskSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskStatsServiceImplTest {
+
+    private static final LocalDate PAST = LocalDate.of(2000, 1, 1);
+    private static final LocalDate FUTURE = LocalDate.of(2999, 1, 1);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskStatsServiceImpl service = new TaskStatsServiceImpl(taskRepository, meterRegistry);
+
+    @Test
+    void firstReconcileLoadsCountersWithoutReportingDrift() {
+        when(taskRepository.countActiveGrouped()).thenReturn(List.of(
+                new TaskCountRow(1L, 10L, TaskStatus.TODO, PAST, 2),
+                new TaskCountRow(1L, null, TaskStatus.DONE, PAST, 1)));
+
+        assertThat(service.getStats().getReconciledAt()).isNull();
+        assertThat(service.reconcile()).isEqualTo(14);
+
+        TaskStatsResponse stats = service.getStats();
+        assertThat(stats.getReconciledAt()).isNotNull();
+        assertThat(stats.getTotal().getTotal()).isEqualTo(3);
+        assertThat(stats.getTotal().getOverdue()).isEqualTo(2);
+        assertThat(stats.getByUser().get(10L).getTotal()).isEqualTo(2);
+        assertThat(driftGauge()).isZero();
+    }
+
+    @Test
+    void reconcileReplacesDriftedCountersWithSqlCounts() {
+        when(taskRepository.countActiveGrouped()).thenReturn(List.of(
+                new TaskCountRow(1L, 10L, TaskStatus.TODO, FUTURE, 1)));
+        service.reconcile();
+
+        // Un evento aplicado en memoria que la base de datos no refleja (p. ej. perdido en un reinicio)
+        TaskSnapshot task = new TaskSnapshot(5L, 0, TaskStatus.IN_PROGRESS, PAST, 10L, 1L);
+        service.onTaskChanged(TaskChangedEvent.created(task));
+        assertThat(service.getStats().getTotal().getTotal()).isEqualTo(2);
+        assertThat(service.getStats().getTotal().getOverdue()).isEqualTo(1);
+
+        // IN_PROGRESS y vencidas, en total, proyecto y usuario
+        assertThat(service.reconcile()).isEqualTo(6);
+        assertThat(driftGauge()).isEqualTo(6);
+
+        TaskStatsResponse stats = service.getStats();
+        assertThat(stats.getTotal().getTotal()).isEqualTo(1);
+        assertThat(stats.getTotal().getByStatus().get(TaskStatus.IN_PROGRESS)).isZero();
+        assertThat(stats.getTotal().getOverdue()).isZero();
+
+        // Los eventos posteriores se aplican sobre los contadores nuevos
+        service.onTaskChanged(TaskChangedEvent.updated(
+                new TaskSnapshot(6L, 0, TaskStatus.TODO, FUTURE, 10L, 1L),
+                new TaskSnapshot(6L, 1, TaskStatus.DONE, FUTURE, 10L, 1L)));
+        assertThat(service.getStats().getByProject().get(1L).getByStatus())
+                .containsEntry(TaskStatus.TODO, 0L)
+                .containsEntry(TaskStatus.DONE, 1L);
+        assertThat(service.reconcile()).isEqualTo(6);
+    }
+
+    private double driftGauge() {
+        return meterRegistry.get("tasks.stats.drift").gauge().value();
+    }
+}
@@ -0,0 +1,141 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.dto.request.CreateProjectRequest;
+import com.taskflow.api.dto.request.CreateTaskRequest;
+import com.taskflow.api.dto.request.CreateUserRequest;
+import com.taskflow.api.dto.request.UpdateTaskRequest;
+import com.taskflow.api.dto.response.UserResponse;
+import com.taskflow.api.model.enums.Priority;
+import com.taskflow.api.model.enums.TaskStatus;
+import com.taskflow.api.repository.RefreshTokenRepository;
+import com.taskflow.api.service.AuthTokenService;
+import com.taskflow.api.service.ProjectService;
+import com.taskflow.api.service.TaskService;
+import com.taskflow.api.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskStreamServiceImplTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        accessToken = authTokenService.issue(createUser("Stream").getEmail()).getAccessToken();
+    }
+
+    // Otros tests borran los usuarios al terminar: no deben quedar refresh tokens que los referencien
+    @AfterEach
+    void cleanUp() {
+        refreshTokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void committedChangesReachOnlyMatchingSubscribers() throws Exception {
+        Long alice = createUser("Alicia").getId();
+        Long bob = createUser("Bob").getId();
+        Long projectA = createProject("Stream A");
+        Long projectB = createProject("Stream B");
+
+        MvcResult followingA = subscribe("projectId", projectA);
+        MvcResult followingB = subscribe("projectId", projectB);
+        MvcResult followingBob = subscribe("userId", bob);
+
+        Long first = createTask("Primera", alice, projectA);
+        awaitEvent(followingA, "created", first);
+
+        // El reparto sigue el orden del buffer: cuando llega la segunda, la primera ya se filtró
+        Long second = createTask("Segunda", bob, projectB);
+        awaitEvent(followingB, "created", second);
+        awaitEvent(followingBob, "created", second);
+
+        assertThat(followingA.getResponse().getContentAsString()).doesNotContain(taskId(second));
+        assertThat(followingB.getResponse().getContentAsString()).doesNotContain(taskId(first));
+        assertThat(followingBob.getResponse().getContentAsString()).doesNotContain(taskId(first));
+
+        // Quien sigue un proyecto ve también la tarea que sale de él
+        taskService.updateTask(first, UpdateTaskRequest.builder().projectId(projectB).userId(bob).build(), null);
+        awaitEvent(followingA, "updated", first);
+        awaitEvent(followingB, "updated", first);
+        awaitEvent(followingBob, "updated", first);
+    }
+
+    private MvcResult subscribe(String filter, Long value) throws Exception {
+        return mockMvc.perform(get("/api/tasks/stream")
+                        .param(filter, value.toString())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static void awaitEvent(MvcResult stream, String name, Long taskId) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        String event = "event:" + name + "\ndata:{\"type\":\"" + name.toUpperCase() + "\"," + taskId(taskId);
+        while (!stream.getResponse().getContentAsString().contains(event)) {
+            assertThat(System.nanoTime()).as("evento %s de la tarea %d", name, taskId).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static String taskId(Long id) {
+        return "\"taskId\":" + id + ",";
+    }
+
+    private UserResponse createUser(String name) {
+        return userService.createUser(CreateUserRequest.builder()
+                .name(name)
+                .email(name.toLowerCase() + "-" + UUID.randomUUID() + "@taskflow.dev")
+                .password("password123")
+                .build());
+    }
+
+    private Long createProject(String name) {
+        return projectService.createProject(CreateProjectRequest.builder()
+                .name(name)
+                .build()).getId();
+    }
+
+    private Long createTask(String title, Long userId, Long projectId) {
+        return taskService.createTask(CreateTaskRequest.builder()
+                .title(title)
+                .status(TaskStatus.TODO)
+                .priority(Priority.MEDIUM)
+                .userId(userId)
+                .projectId(projectId)
+                .build()).getId();
+    }
+}
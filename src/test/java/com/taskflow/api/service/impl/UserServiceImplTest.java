@@ -0,0 +1,175 @@
+package com.taskflow.api.service.impl;
+
+import com.taskflow.api.dto.request.CreateUserRequest;
+import com.taskflow.api.dto.response.BatchItemResult;
+import com.taskflow.api.dto.response.BatchResponse;
+import com.taskflow.api.exception.EmailAlreadyExistsException;
+import com.taskflow.api.exception.TooManyRequestsException;
+import com.taskflow.api.model.User;
+import com.taskflow.api.model.enums.Role;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.UserService;
+import com.taskflow.api.user.KnownEmails;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        // Un hilo y cola de 4: cabe cualquier lote pequeño, uno de 20 no
+        "users.password-hashing.threads=1",
+        "users.password-hashing.queue-capacity=4"
+})
+class UserServiceImplTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private KnownEmails knownEmails;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void uniqueViolationOnAnEmailTheFilterRuledOutIsAConflict() {
+        // El filtro no ha visto el alta, así que no se consulta antes: responde el índice único
+        String elsewhere = unknownEmail("otro-nodo");
+        userRepository.save(User.builder()
+                .name("Otro nodo")
+                .email(elsewhere)
+                .password("secret")
+                .role(Role.USER)
+                .build());
+
+        assertThatThrownBy(() -> userService.createUser(request("Duplicado", elsewhere.toUpperCase())))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+        assertThat(usersWithEmail(elsewhere)).isEqualTo(1);
+        // Y lo aprende: el siguiente intento se rechaza en la consulta previa, sin hash
+        assertThat(knownEmails.mightExist(elsewhere)).isTrue();
+    }
+
+    @Test
+    void batchRejectsTakenAndRepeatedEmailsAndCreatesTheRest() {
+        String taken = userService.createUser(request("Existente", email("existente"))).getEmail();
+        String repeated = email("repetido");
+        String fresh = email("nuevo");
+
+        BatchResponse response = userService.createUsers(List.of(
+                request("Uno", taken.toUpperCase()),
+                request("Dos", repeated),
+                request("Tres", repeated.toUpperCase()),
+                request("Cuatro", fresh)));
+
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(
+                BatchItemResult.Status.REJECTED, BatchItemResult.Status.CREATED,
+                BatchItemResult.Status.REJECTED, BatchItemResult.Status.CREATED);
+        assertThat(response.getResults().get(0).getError()).contains("ya está registrado");
+        assertThat(response.getResults().get(2).getError()).contains("repetido en el lote");
+        assertThat(usersWithEmail(repeated)).isEqualTo(1);
+        assertThat(userRepository.findById(response.getResults().get(3).getId()))
+                .hasValueSatisfying(user -> assertThat(user.getEmail()).isEqualTo(fresh));
+        assertThat(knownEmails.mightExist(fresh)).isTrue();
+    }
+
+    @Test
+    void batchRetriesWithoutEmailsRegisteredBehindTheFilter() {
+        // Alta que el filtro no ha visto (otro nodo): la consulta previa se la salta
+        String elsewhere = unknownEmail("otro-nodo");
+        userRepository.save(User.builder()
+                .name("Otro nodo")
+                .email(elsewhere)
+                .password("secret")
+                .role(Role.USER)
+                .build());
+        String first = email("primero");
+        String last = email("ultimo");
+
+        BatchResponse response = userService.createUsers(List.of(
+                request("Primero", first),
+                request("Otro", elsewhere),
+                request("Último", last)));
+
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(
+                BatchItemResult.Status.CREATED, BatchItemResult.Status.REJECTED, BatchItemResult.Status.CREATED);
+        assertThat(response.getResults().get(1).getError()).contains("ya está registrado");
+        assertThat(usersWithEmail(first)).isEqualTo(1);
+        assertThat(usersWithEmail(elsewhere)).isEqualTo(1);
+        assertThat(usersWithEmail(last)).isEqualTo(1);
+        // El reintento lo añade al filtro: la próxima vez se rechaza en la consulta previa
+        assertThat(knownEmails.mightExist(elsewhere)).isTrue();
+    }
+
+    @Test
+    void fullHashingQueueRejectsTheWholeBatch() throws InterruptedException {
+        List<String> emails = IntStream.range(0, 20).mapToObj(i -> email("cola-" + i)).toList();
+        List<CreateUserRequest> requests = new ArrayList<>();
+        emails.forEach(email -> requests.add(request("Cola", email)));
+
+        assertThatThrownBy(() -> userService.createUsers(requests))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // Ni siquiera los que llegaron a calcular su hash: el 429 es previo a cualquier INSERT
+        assertThat(emails.stream().mapToInt(this::usersWithEmail).sum()).isZero();
+        assertThat(emails.stream().filter(knownEmails::mightExist)).isEmpty();
+
+        // Lo encolado se descarta en cuanto termina el hash en curso: después cabe otro lote
+        awaitIdleHashingPool();
+        assertThat(userService.createUsers(List.of(request("Después", email("despues")))).getCreated())
+                .isEqualTo(1);
+    }
+
+    private void awaitIdleHashingPool() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (gauge("executor.queued") + gauge("executor.active") > 0) {
+            assertThat(System.nanoTime()).as("pool de hashes sin vaciar").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("name", "password.hashing").gauge().value();
+    }
+
+    private int usersWithEmail(String email) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email);
+    }
+
+    private String unknownEmail(String prefix) {
+        String email;
+        do {
+            email = email(prefix);
+        } while (knownEmails.mightExist(email));
+        return email;
+    }
+
+    private static String email(String prefix) {
+        return prefix + "-" + UUID.randomUUID() + "@taskflow.test";
+    }
+
+    private static CreateUserRequest request(String name, String email) {
+        return CreateUserRequest.builder()
+                .name(name)
+                .email(email)
+                .password("Passw0rd1")
+                .build();
+    }
+}
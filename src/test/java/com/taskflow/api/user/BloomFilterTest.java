@@ -0,0 +1,56 @@
+package com.taskflow.api.user;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void neverReportsAnAddedValueAsMissing() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<String> emails = emails("user", 10_000);
+        emails.forEach(filter::add);
+
+        assertThat(emails).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void neverReportsAnAddedValueAsMissingPastExpectedInsertions() {
+        // Diez veces lo previsto y con un filtro mínimo: solo empeoran los falsos positivos
+        for (BloomFilter filter : List.of(new BloomFilter(1_000, 0.01), new BloomFilter(1, 0.5))) {
+            List<String> emails = emails("over", 10_000);
+            emails.forEach(filter::add);
+            assertThat(emails).allMatch(filter::mightContain);
+        }
+    }
+
+    @Test
+    void concurrentAddsAreNotLost() {
+        BloomFilter filter = new BloomFilter(40_000, 0.01);
+        List<List<String>> batches = IntStream.range(0, 4).mapToObj(i -> emails("thread" + i, 10_000)).toList();
+
+        CompletableFuture.allOf(batches.stream()
+                .map(batch -> CompletableFuture.runAsync(() -> batch.forEach(filter::add)))
+                .toArray(CompletableFuture[]::new)).join();
+
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).allMatch(filter::mightContain));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearDesignAtCapacity() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        emails("added", 10_000).forEach(filter::add);
+
+        long falsePositives = emails("absent", 100_000).stream().filter(filter::mightContain).count();
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    private static List<String> emails(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + "-" + i + "@taskflow.test").toList();
+    }
+}